@@ -0,0 +1,77 @@
+package com.palette.palettepetsback.config.jwt;
+
+import com.palette.palettepetsback.config.jwt.filter.JWTFilter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 필터 오버헤드 측정
+ * - legacyTripleParse : isExpired + getCategory + getClaims (요청당 3번 파싱 / 서명 검증)
+ * - singleParse : parseToken 한 번
+ * - cachedVerify : VerifiedTokenCache 히트
+ * - filterCached : JWTFilter 전체 (캐시 사용)
+ *
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForPalettePetsJwtBenchmark2024";
+
+    private JWTUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JWTFilter jwtFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil);
+        jwtFilter = new JWTFilter(verifiedTokenCache);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", 1L);
+        claims.put("email", "bench@palette.com");
+        claims.put("role", "USER");
+        claims.put("memberNickname", "bench");
+        token = jwtUtil.generateToken("access", claims, 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public void legacyTripleParse(Blackhole bh) {
+        bh.consume(jwtUtil.isExpired(token));
+        bh.consume(jwtUtil.getCategory(token));
+        bh.consume(jwtUtil.getClaims(token));
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public JwtClaims cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+
+    @Benchmark
+    public int filterCached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues/count");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+}
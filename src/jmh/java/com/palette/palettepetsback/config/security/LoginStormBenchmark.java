@@ -0,0 +1,90 @@
+package com.palette.palettepetsback.config.security;
+
+import com.palette.palettepetsback.config.exceptions.exception.LoginOverloadException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 시뮬레이션
+ * - 로그인 스레드 16개가 BCrypt 검증을 계속 요청하는 동안 일반 API 스레드 2개의 응답 시간을 측정
+ * - direct : 기존 방식, 요청 스레드에서 바로 BCrypt 실행
+ * - bounded : PasswordHashingExecutor 경유 (풀 포화 시 429 로 즉시 거절)
+ *
+ * 비교 지표 : 각 그룹의 api 응답 시간 분포 (p99), login 처리 / 거절 수
+ * 실행 : ./gradlew jmh -Pjmh.includes=LoginStormBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class LoginStormBenchmark {
+
+    private static final String RAW_PASSWORD = "palette-pets-password";
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        passwordHashingExecutor = new PasswordHashingExecutor(new SimpleMeterRegistry(), 0, 64, 3000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingExecutor.destroy();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LoginResult {
+        public long shed;
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(16)
+    public boolean directLogin() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(2)
+    public void directApi(Blackhole blackhole) {
+        api(blackhole);
+    }
+
+    @Benchmark
+    @Group("bounded")
+    @GroupThreads(16)
+    public boolean boundedLogin(LoginResult result) {
+        try {
+            return passwordHashingExecutor.execute(() -> passwordEncoder.matches(RAW_PASSWORD, encodedPassword));
+        } catch (LoginOverloadException e) {
+            // 실제 요청이면 429 응답 -> 클라이언트는 Retry-After 후 재시도
+            result.shed++;
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("bounded")
+    @GroupThreads(2)
+    public void boundedApi(Blackhole blackhole) {
+        api(blackhole);
+    }
+
+    // 일반 API 요청 한 건에 해당하는 가벼운 CPU 작업
+    private static void api(Blackhole blackhole) {
+        Blackhole.consumeCPU(10_000);
+        blackhole.consume(System.nanoTime());
+    }
+}
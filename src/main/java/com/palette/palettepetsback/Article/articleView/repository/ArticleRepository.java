@@ -2,23 +2,40 @@ package com.palette.palettepetsback.Article.articleView.repository;
 
 import com.palette.palettepetsback.Article.Article;
 import com.palette.palettepetsback.Article.articleView.DTO.response.PopularArticleDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
-    @Query("SELECT count(a) FROM Article a WHERE a.articleTags LIKE %?1%")
+
+    // 신고 누적으로 자동 숨김된 게시글 제외 조건 (report_aggregate)
+    String NOT_HIDDEN = "a.articleId NOT IN (SELECT r.targetId FROM ReportAggregate r " +
+            "WHERE r.targetType = com.palette.palettepetsback.report.entity.ReportTargetType.ARTICLE AND r.hidden = true)";
+
+    @Query("SELECT count(a) FROM Article a WHERE a.articleTags LIKE %?1% AND " + NOT_HIDDEN)
     Optional<Integer> countByArticleTagsContaining(String tag);
 
+    // 게시글 작성자 id (신고 대상 확인용)
+    @Query("SELECT a.createdWho FROM Article a WHERE a.articleId = :articleId")
+    Optional<Long> findAuthorIdById(@Param("articleId") Long articleId);
+
+    // 게시글 목록 (자동 숨김 제외)
+    @Query(value = "SELECT a FROM Article a WHERE " + NOT_HIDDEN,
+            countQuery = "SELECT count(a) FROM Article a WHERE " + NOT_HIDDEN)
+    Page<Article> findAllVisible(Pageable pageable);
+
     // Main Page 인기글 List 출력
     @Query("SELECT new com.palette.palettepetsback.Article.articleView.DTO.response.PopularArticleDTO(a.articleId, a.title, " +
             " m.memberId, " +
             " m.memberNickname, m.memberImage, a.countLoves, a.countReview) " +
             "FROM Article a JOIN Member m on a.createdWho = m.memberId " +
-            "WHERE a.createdAt >= :date " +
+            "WHERE a.createdAt >= :date AND " + NOT_HIDDEN + " " +
             "ORDER BY a.countLoves DESC " +
             "LIMIT 5")
     List<PopularArticleDTO> findPopularArticleByDate(LocalDateTime date);
@@ -4,6 +4,8 @@ import com.palette.palettepetsback.Article.Article;
 import com.palette.palettepetsback.Article.QArticle;
 import com.palette.palettepetsback.Article.articleView.DTO.response.ArticleResponseDTO;
 import com.palette.palettepetsback.Article.articleView.DTO.PageableDTO;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.repository.ReportAggregateExpressions;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -47,6 +49,8 @@ public class ArticleKomoranService {
         for(String search: searchList) {
             where.or(article.articleTags.like("%"+search+"%"));
         }
+        // 신고 누적으로 자동 숨김된 게시글 제외 (검색 조건 OR 뒤에 AND 로 묶음)
+        where.and(ReportAggregateExpressions.notHidden(ReportTargetType.ARTICLE, article.articleId));
 
         //정렬 조건i
         PathBuilder<?> entityPath = new PathBuilder<>(Article.class, "article");
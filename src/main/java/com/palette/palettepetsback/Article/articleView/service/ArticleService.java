@@ -5,6 +5,9 @@ import com.palette.palettepetsback.Article.QArticle;
 import com.palette.palettepetsback.Article.articleView.DTO.PageableDTO;
 import com.palette.palettepetsback.Article.articleView.DTO.response.ArticleResponseDTO;
 import com.palette.palettepetsback.Article.articleView.repository.ArticleRepository;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.repository.ReportAggregateExpressions;
+import com.palette.palettepetsback.report.service.ReportModerationService;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -28,17 +31,28 @@ public class ArticleService {
     private final ArticleRepository articleRepository;
     private final JPAQueryFactory jpaQueryFactory;
     private final Integer PAGE_SIZE;
+    private final ReportModerationService reportModerationService;
 
     @Transactional(readOnly = true)
     public Page<Article> getList(Pageable pageable) {
-        return articleRepository.findAll(pageable);
+        // 신고 누적으로 자동 숨김된 게시글 제외
+        return articleRepository.findAllVisible(pageable);
     }
 
+    // 자동 숨김된 게시글은 없는 게시글과 같이 null
     @Transactional(readOnly = true)
     public Article findById(Long id) {
+        if (isHidden(id)) {
+            return null;
+        }
         return articleRepository.findById(id).orElse(null);
     }
 
+    // 신고 누적으로 자동 숨김된 게시글인지 (redis SISMEMBER 한 번)
+    public boolean isHidden(Long articleId) {
+        return reportModerationService.isHidden(ReportTargetType.ARTICLE, articleId);
+    }
+
     public List<Article> getTest() {
         return articleRepository.findAll();
     }
@@ -77,6 +91,9 @@ public class ArticleService {
                 where.or(qArticle.articleTags.like("%" + searchList[i] + "%"));
             }
         }
+
+        // 신고 누적으로 자동 숨김된 게시글 제외 (검색 조건 OR 뒤에 AND 로 묶음)
+        where.and(ReportAggregateExpressions.notHidden(ReportTargetType.ARTICLE, qArticle.articleId));
         
         List<Article> articles = jpaQueryFactory
                 .selectFrom(qArticle)
@@ -11,6 +11,7 @@ import com.palette.palettepetsback.Article.articleWrite.service.ArticleWriteServ
 import com.palette.palettepetsback.Article.redis.ArticleWriteRedis;
 import com.palette.palettepetsback.Article.redis.service.ArticleRedisService;
 import com.palette.palettepetsback.config.SingleTon.BadWordService;
+import com.palette.palettepetsback.analytics.service.VisitorAnalyticsService;
 import com.palette.palettepetsback.config.SingleTon.ViewerLimit;
 import com.palette.palettepetsback.config.exceptions.BadWordException;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
@@ -20,14 +21,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 
 @RestController
@@ -40,7 +39,6 @@ public class ArticleWriteController {
     private final ArticleWriteRepository articleWriteRepository;
     private final ArticleRepository articleRepository;
     private final ArticleRedisService articleRedisService;
-    private final RedisTemplate<String, String> redisTemplate;
     private final BadWordService badWordService;
 //    @Autowired
 //    public ArticleWriteController(ArticleWriteService articleWriteService, ArticleWriteRepository articleWriteRepository) {
@@ -64,6 +62,7 @@ public class ArticleWriteController {
 
 
     private final ViewerLimit viewerLimit;
+    private final VisitorAnalyticsService visitorAnalyticsService;
 
 
     //게시글 단건 조회
@@ -71,22 +70,12 @@ public class ArticleWriteController {
     @ResponseStatus(HttpStatus.OK)
     public Response findArticle(@PathVariable final Long articleId,
                                 HttpServletRequest request) {
-        //조회수 증가 처리율 제한 추가
-
-        String sessionId = request.getSession().getId();
-        String key = "session_id_" + sessionId;
-        if (!redisTemplate.hasKey(key)) {
-            System.out.println("=======조회수 상승================");
-            articleWriteService.updateCountViews(articleId);
-            redisTemplate.opsForValue().set(key, sessionId, 600, TimeUnit.SECONDS);
-        } else {
-            System.out.println("=======이미 조회수를 올린 사람입니다.================");
-        }
-        ////단건 응답
-
-        if (viewerLimit.viewLimit(request)) {
+        //조회수 증가 처리율 제한 (조회자 + 게시글 단위, 한 요청에 한 번만 증가)
+        if (viewerLimit.viewLimit(request, ViewerLimit.ContentType.ARTICLE, articleId)) {
             articleWriteService.updateCountViews(articleId);
         }
+        // 순 방문자 통계
+        visitorAnalyticsService.record(request, ViewerLimit.ContentType.ARTICLE, articleId);
 
         //단건 응답
 
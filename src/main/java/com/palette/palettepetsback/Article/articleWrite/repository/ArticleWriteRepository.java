@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ArticleWriteRepository extends JpaRepository<Article,Long> {
 //    Page<Article> findAll(Pageable pageable);
 
@@ -19,13 +21,15 @@ public interface ArticleWriteRepository extends JpaRepository<Article,Long> {
     @Query("UPDATE Article e SET e.countViews = :newValue WHERE e.articleId = :id")
     public void updateCountViews(@Param("id") Long id, @Param("newValue") int newValue);
 
+    // 댓글 수 증감을 SQL 안에서 처리 -> 동시 댓글 작성 시에도 누락 없음 (0 미만으로 내려가지 않음)
     @Modifying
-    @Query("UPDATE Article e SET e.countReview = :newValue WHERE e.articleId = :id")
-    public void updateCountReviews(@Param("id") Long id, @Param("newValue") int newValue);
+    @Query("UPDATE Article e SET e.countReview = CASE WHEN e.countReview + :delta < 0 THEN 0 ELSE e.countReview + :delta END " +
+            "WHERE e.articleId = :id")
+    public void addCountReviews(@Param("id") Long id, @Param("delta") int delta);
 
-    @Modifying
-    @Query("UPDATE Article e SET e.countReport = :newValue where e.articleId = :id")
-    public void incrementReportCount(@Param("id")Long id,@Param("newValue") int newValue);
+    // 게시글 여러 개의 댓글 수 -> [articleId, countReview]
+    @Query("SELECT e.articleId, e.countReview FROM Article e WHERE e.articleId IN :ids")
+    public List<Object[]> findCountReviewsByIds(@Param("ids") List<Long> ids);
 
     @Modifying
     @Query("UPDATE Article e SET e.countLoves = :newValue where e.articleId = :id")
@@ -9,6 +9,7 @@ import com.palette.palettepetsback.Article.articleWrite.dto.response.ArticleLike
 import com.palette.palettepetsback.Article.articleWrite.repository.ArticleLikeRepository;
 import com.palette.palettepetsback.Article.articleWrite.repository.ArticleWriteRepository;
 import com.palette.palettepetsback.Article.redis.LikeArticleRedis;
+import com.palette.palettepetsback.config.jwt.MemberContext;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class ArticleLikeService {
     private final ArticleRepository articleRepository;
     private final ArticleWriteRepository articleWriteRepository;
     private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
 
 
 
@@ -39,12 +41,10 @@ public class ArticleLikeService {
     public String likeArticle(Long articleId,Long memberId){
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(()->new IllegalArgumentException("게시글 찾을수없음"));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(()->new IllegalArgumentException("Member not found"));
+        // FK 지정만 필요하므로 회원은 조회하지 않고 참조만 사용
+        Member member = memberRepository.getReferenceById(memberId);
 
-
-        Optional<ArticleLike>existingLike= articleLikeRepository.findByArticleAndMember(article,member);
-        if(existingLike.isPresent()){
+        if(articleLikeRepository.existsByArticleAndMember(article,member)){
             return "이미 좋아요를 눌렀습니다.";
         }
 
@@ -67,8 +67,7 @@ public class ArticleLikeService {
     public void unlikeArticle(Long articleId, Long memberId) {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("Article not found"));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+        Member member = memberRepository.getReferenceById(memberId);
 
         Optional<ArticleLike> existingLike = articleLikeRepository.findByArticleAndMember(article, member);
 
@@ -96,15 +95,15 @@ public class ArticleLikeService {
         return articleLikeRepository.countByArticle(article);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Map<String,Object> isLikeArticle(Long articleId, Long memberId) {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(()->new IllegalArgumentException("게시글 찾을수없음"));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(()->new IllegalArgumentException("Member not found"));
-        Optional<ArticleLike>existingLike= articleLikeRepository.findByArticleAndMember(article,member);
-        Map<String,Object> map= new java.util.HashMap<>(Map.of("isLike", existingLike.isPresent()));
-        map.put("memberNickname",member.getMemberNickname());
+        Member member = memberRepository.getReferenceById(memberId);
+        boolean isLike = articleLikeRepository.existsByArticleAndMember(article,member);
+        Map<String,Object> map= new java.util.HashMap<>(Map.of("isLike", isLike));
+        // 닉네임은 회원 요약 캐시에서 가져옴 (회원 엔티티 조회 X, 닉네임 변경 즉시 반영)
+        map.put("memberNickname",memberContext.getMemberNickname());
         return map;
     }
 }
\ No newline at end of file
@@ -19,7 +19,8 @@ import com.palette.palettepetsback.config.Storage.NCPObjectStorageService;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
 import com.palette.palettepetsback.member.entity.Member;
-import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.service.ReportModerationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -41,8 +42,8 @@ public class ArticleWriteService {
     private final ArticleLikeRepository articleLikeRepository;
     private final NCPObjectStorageService objectStorageService;
     private final FileService fileService;
-    private final MemberRepository memberRepository;
     private final ImgArticleRepository imgArticleRepository;
+    private final ReportModerationService reportModerationService;
 
 
 
@@ -113,6 +114,10 @@ public class ArticleWriteService {
     //게시글 단건 조회
     @Transactional(readOnly = true)
     public ArticleWriteResponseDto findArticle(Long articleId) {
+        // 신고 누적으로 자동 숨김된 게시글 -> redis SISMEMBER 한 번으로 확인
+        if (reportModerationService.isHidden(ReportTargetType.ARTICLE, articleId)) {
+            throw new ArticleNotFoundException();
+        }
         Article article = articleWriteRepository.findById(articleId)
                 .orElseThrow(ArticleNotFoundException::new);
 
@@ -141,7 +146,8 @@ public class ArticleWriteService {
 
         validateArticleOwner(authInfoDto,article);
 
-        Member member = memberRepository.findById(authInfoDto.getMemberId()).orElseThrow(()->new IllegalArgumentException("멤버를 찾을수없습니다"));
+        // 작성자 == 로그인 회원 검증이 끝났으므로 게시글의 작성자를 그대로 사용 (회원 재조회 X)
+        Member member = article.getMember();
 
         //1. 기본적으로 업데이트 하는 Entity 메소드
 
@@ -225,24 +231,6 @@ public class ArticleWriteService {
                 .orElseThrow(ArticleNotFoundException::new);
         articleWriteRepository.updateCountViews(article.getArticleId(), article.getCountViews()+1);
     }
-    //댓글 등록시 댓글 개수 up
-    @Transactional
-    public void updateCountReviews(Long articleId) {
-        Article article = articleWriteRepository.findById(articleId)
-                .orElseThrow(ArticleNotFoundException::new);
-        log.info("articleId:{}", article.getArticleId());
-        articleWriteRepository.updateCountReviews(article.getArticleId(), article.getCountReview()+1);
-    }
-
-
-    // 신고 RDBMS countReport+1
-    @Transactional
-    public void incrementReportCount(Long articleId) {
-        Article article = articleWriteRepository.findById(articleId)
-                .orElseThrow(ArticleNotFoundException::new);
-        log.info("articleId:{}", article.getArticleId());
-        articleWriteRepository.incrementReportCount(article.getArticleId(),article.getCountReport()+1);
-    }
 
 
 }
@@ -0,0 +1,62 @@
+package com.palette.palettepetsback.Chat.Controller;
+
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageRequest;
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse;
+import com.palette.palettepetsback.Chat.Service.ChatMessageService;
+import com.palette.palettepetsback.config.jwt.AuthInfoDto;
+import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
+import com.palette.palettepetsback.config.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ChatMessageController {
+    private final ChatMessageService chatMessageService;
+
+    // STOMP 메시지 전송 : /pub/chat/{roomId} -> /sub/chat/{roomId} 로 전달
+    @MessageMapping("/chat/{roomId}")
+    public void send(@DestinationVariable("roomId") String roomId,
+                     @Payload ChatMessageRequest request,
+                     Principal principal) {
+        CustomUserDetails userDetails = (CustomUserDetails) ((Authentication) principal).getPrincipal();
+        chatMessageService.send(roomId, userDetails.getMember().getMemberId(), request.getContent());
+    }
+
+    // 전송 실패 사유는 보낸 사람에게만
+    @MessageExceptionHandler(IllegalArgumentException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public String handleSendError(IllegalArgumentException e) {
+        log.info("채팅 메시지 전송 실패 = {}", e.getMessage());
+        return e.getMessage();
+    }
+
+    // 채팅 이력 (최신순) ex) /api/chat/{roomId}/messages?cursor=1520&size=30
+    @GetMapping("/api/chat/{roomId}/messages")
+    public ResponseEntity<CursorSlice<ChatMessageResponse>> getMessages(@JwtAuth final AuthInfoDto authInfoDto,
+                                                                        @PathVariable("roomId") String roomId,
+                                                                        @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                        @RequestParam(value = "size", defaultValue = "30") int size) {
+        return ResponseEntity.ok(chatMessageService.getHistory(roomId, authInfoDto.getMemberId(), cursor, size));
+    }
+
+    // 채팅방 읽음 처리
+    @PostMapping("/api/chat/{roomId}/read")
+    public ResponseEntity<Void> read(@JwtAuth final AuthInfoDto authInfoDto,
+                                     @PathVariable("roomId") String roomId) {
+        chatMessageService.markRead(roomId, authInfoDto.getMemberId());
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.palette.palettepetsback.Chat.Controller.DTO;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ChatMessageRequest {
+    private String content;
+}
@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.Chat.Controller.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageResponse {
+    private Long seq;
+    private Long senderId;
+    private String content;
+    private LocalDateTime createdAt;
+}
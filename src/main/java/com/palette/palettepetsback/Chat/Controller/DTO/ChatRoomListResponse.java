@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -12,4 +14,5 @@ public class ChatRoomListResponse {
     private Long userId;
     private String nickname;
     private Object count;
+    private LocalDateTime lastMessageAt; // 메시지가 없는 채팅방은 null
 }
@@ -0,0 +1,46 @@
+package com.palette.palettepetsback.Chat.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 (append-only)
+ * - seq : 채팅방별 순번 (redis INCR 로 발급) -> 이력 커서
+ * - redis stream 에 먼저 쌓이고 ChatMessageFlusher 가 배치로 insert
+ */
+@Table(name = "chat_message", indexes = {
+        // 채팅방 이력 커서 페이지 조회 + flush 재시도 시 중복 insert 방지
+        @Index(name = "uk_chat_message_room_seq", columnList = "chat_room_id, seq", unique = true)
+})
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_message_id")
+    private Long chatMessageId;
+
+    @Column(name = "chat_room_id", columnDefinition = "BINARY", length = 16, nullable = false)
+    private UUID chatRoomId;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "content", length = 1000, nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
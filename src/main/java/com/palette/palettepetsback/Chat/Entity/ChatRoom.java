@@ -1,5 +1,6 @@
 package com.palette.palettepetsback.Chat.Entity;
 
+import com.palette.palettepetsback.config.SingleTon.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,13 @@ import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
-@Table(name = "chat_room")
+@Table(name = "chat_room", indexes = {
+        // 두 회원의 채팅방은 하나 -> (작은 id, 큰 id) 로 정규화해서 unique
+        @Index(name = "uk_chat_room_pair", columnList = "min_user, max_user", unique = true),
+        // 채팅방 목록 (user1 = ? or user2 = ?) -> index merge
+        @Index(name = "idx_chat_room_user1", columnList = "user1"),
+        @Index(name = "idx_chat_room_user2", columnList = "user2")
+})
 @Getter
 @Entity
 @Builder
@@ -25,8 +32,24 @@ public class ChatRoom {
     @Column(name = "user2")
     private Long user2;
 
+    @Column(name = "min_user")
+    private Long minUser;
+
+    @Column(name = "max_user")
+    private Long maxUser;
+
     @PrePersist //Entity 실행 전 수행하는 마라미터로 default 값을 지정O
     public void prePersist(){
-        this.chatRoomId = UUID.randomUUID();
+        if (this.chatRoomId == null) {
+            // 시간 순서 UUID -> PK B-tree 끝에 순차 insert
+            this.chatRoomId = UuidV7.generate();
+        }
+        canonicalize();
+    }
+
+    // 정규화 키 채우기 (정규화 키 추가 전에 만들어진 채팅방은 조회 시 채움)
+    public void canonicalize() {
+        this.minUser = Math.min(user1, user2);
+        this.maxUser = Math.max(user1, user2);
     }
 }
@@ -0,0 +1,78 @@
+package com.palette.palettepetsback.Chat.Repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원별 채팅방 목록 정렬용 마지막 메시지 시각 (redis zset)
+ * - key : chat:inbox:{memberId}, member : roomId, score : 마지막 메시지 시각 (epoch ms)
+ * - 갱신은 메시지 append 스크립트 안에서 보낸 사람 / 받는 사람 모두 ZADD (ChatMessageStreamRepository)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatInboxRepository {
+
+    private static final String KEY_PREFIX = "chat:inbox:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 채팅방 목록 화면에 필요한 redis 값을 파이프라인 한 번으로 조회
+     * - 안 읽은 수 hash 전체 (HGETALL) + 마지막 메시지 시각 zset 전체
+     */
+    @SuppressWarnings("unchecked")
+    public InboxSnapshot find(Long memberId) {
+        String unreadKey = ChatUnreadRepository.key(memberId);
+        String inboxKey = key(memberId);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().entries(unreadKey);
+                ops.opsForZSet().rangeWithScores(inboxKey, 0, -1);
+                return null;
+            }
+        });
+
+        Map<String, Long> unread = new HashMap<>();
+        Map<Object, Object> unreadEntries = (Map<Object, Object>) results.get(0);
+        if (unreadEntries != null) {
+            unreadEntries.forEach((roomId, count) -> unread.put(roomId.toString(), Long.valueOf(count.toString())));
+        }
+
+        Map<String, Long> lastMessageAt = new HashMap<>();
+        Set<TypedTuple<String>> scores = (Set<TypedTuple<String>>) results.get(1);
+        if (scores != null) {
+            for (TypedTuple<String> tuple : scores) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    lastMessageAt.put(tuple.getValue(), tuple.getScore().longValue());
+                }
+            }
+        }
+        return new InboxSnapshot(unread, lastMessageAt);
+    }
+
+    static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class InboxSnapshot {
+        // roomId -> 안 읽은 수
+        private final Map<String, Long> unread;
+        // roomId -> 마지막 메시지 시각 (epoch ms)
+        private final Map<String, Long> lastMessageAt;
+    }
+}
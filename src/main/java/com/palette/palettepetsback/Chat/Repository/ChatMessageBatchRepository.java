@@ -0,0 +1,47 @@
+package com.palette.palettepetsback.Chat.Repository;
+
+import com.palette.palettepetsback.Chat.Entity.ChatMessage;
+import com.palette.palettepetsback.config.SingleTon.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * chat_message 배치 insert
+ * - IDENTITY 키라서 JPA saveAll 은 한 건씩 insert 됨 -> JdbcTemplate batchUpdate 로 한 번에 전송
+ * - INSERT IGNORE + uk_chat_message_room_seq -> ack 전에 죽어서 같은 메시지를 다시 flush 해도 중복 저장되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert ignore into chat_message (chat_room_id, seq, sender_id, content, created_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ChatMessage message = messages.get(i);
+                ps.setBytes(1, UuidV7.toBytes(message.getChatRoomId()));
+                ps.setLong(2, message.getSeq());
+                ps.setLong(3, message.getSenderId());
+                ps.setString(4, message.getContent());
+                ps.setTimestamp(5, Timestamp.valueOf(message.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return messages.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.palette.palettepetsback.Chat.Repository;
+
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse;
+import com.palette.palettepetsback.Chat.Entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    // 채팅방 최신 메시지 (uk_chat_message_room_seq 역순으로 읽고 limit 에서 멈춤)
+    @Query("select new com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse(m.seq, m.senderId, m.content, m.createdAt) " +
+            "from ChatMessage m " +
+            "where m.chatRoomId = :roomId " +
+            "order by m.seq desc")
+    List<ChatMessageResponse> findLatest(@Param("roomId") UUID roomId, Pageable pageable);
+
+    @Query("select new com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse(m.seq, m.senderId, m.content, m.createdAt) " +
+            "from ChatMessage m " +
+            "where m.chatRoomId = :roomId and m.seq < :cursorSeq " +
+            "order by m.seq desc")
+    List<ChatMessageResponse> findBefore(@Param("roomId") UUID roomId,
+                                         @Param("cursorSeq") Long cursorSeq,
+                                         Pageable pageable);
+
+    // redis 순번 키가 사라졌을 때 다시 채울 값
+    @Query("select coalesce(max(m.seq), 0) from ChatMessage m where m.chatRoomId = :roomId")
+    long findMaxSeq(@Param("roomId") UUID roomId);
+
+    // 채팅방별 마지막 메시지 시각 -> [chatRoomId, createdAt] (redis 정렬 값이 없는 채팅방만)
+    @Query("select m.chatRoomId, max(m.createdAt) from ChatMessage m " +
+            "where m.chatRoomId in :roomIds " +
+            "group by m.chatRoomId")
+    List<Object[]> findLastMessageAtByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+}
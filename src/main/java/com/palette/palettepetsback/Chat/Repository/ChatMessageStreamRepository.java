@@ -0,0 +1,205 @@
+package com.palette.palettepetsback.Chat.Repository;
+
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse;
+import com.palette.palettepetsback.Chat.Entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 append-only 로그 (redis stream)
+ * - chat:seq:{roomId} : 채팅방별 순번 (INCR)
+ * - chat:stream:{roomId} : 채팅방별 최근 메시지 (entry id = "{seq}-0", 약 HOT_MAX_LEN 개 유지) -> 이력 첫 페이지는 DB 를 거치지 않음
+ * - chat:flush : 모든 채팅방 메시지 -> ChatMessageFlusher 가 consumer group 으로 읽어서 MySQL 에 배치 insert 후 ack / 삭제
+ * - chat:flush:dead : 저장할 수 없는 메시지 (한 건씩 넣어도 실패) -> 확인용으로 보관
+ * 순번 발급 + 두 stream 추가 + 상대방 안 읽은 수 증가 + 양쪽 채팅방 목록 정렬 시각 갱신을 스크립트 하나로 원자적으로 처리
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageStreamRepository {
+
+    private static final String SEQ_PREFIX = "chat:seq:";
+    private static final String ROOM_STREAM_PREFIX = "chat:stream:";
+    private static final String FLUSH_STREAM = "chat:flush";
+    private static final String DEAD_LETTER_STREAM = "chat:flush:dead";
+    private static final long DEAD_LETTER_MAX_LEN = 10_000;
+    private static final long HOT_MAX_LEN = 500;
+
+    // 순번 키가 없으면 (redis 재시작 등) -1 반환 -> DB 최대 seq 로 채운 뒤 재시도
+    private static final RedisScript<Long> APPEND = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[5], seq .. '-0', " +
+            "   'seq', seq, 'senderId', ARGV[2], 'content', ARGV[3], 'createdAt', ARGV[4]) " +
+            "redis.call('XADD', KEYS[3], '*', " +
+            "   'roomId', ARGV[1], 'seq', seq, 'senderId', ARGV[2], 'content', ARGV[3], 'createdAt', ARGV[4]) " +
+            "redis.call('HINCRBY', KEYS[4], ARGV[1], 1) " +
+            "redis.call('ZADD', KEYS[5], ARGV[4], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[6], ARGV[4], ARGV[1]) " +
+            "return seq",
+            Long.class);
+
+    // minIdle 이상 ack 되지 않은 메시지를 이 consumer 로 가져옴 (죽었거나 이름이 바뀐 인스턴스의 pending) -> 가져온 수
+    private static final RedisScript<Long> AUTO_CLAIM = new DefaultRedisScript<>(
+            "local result = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], '0-0', 'COUNT', ARGV[4], 'JUSTID') " +
+            "return #result[2]",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 메시지 추가
+     * @return 발급된 seq, 순번 키가 없으면 -1
+     */
+    public long append(UUID roomId, Long senderId, Long receiverId, String content, LocalDateTime createdAt) {
+        Long seq = redisTemplate.execute(APPEND,
+                List.of(SEQ_PREFIX + roomId, ROOM_STREAM_PREFIX + roomId, FLUSH_STREAM, ChatUnreadRepository.key(receiverId),
+                        ChatInboxRepository.key(senderId), ChatInboxRepository.key(receiverId)),
+                roomId.toString(),
+                String.valueOf(senderId),
+                content,
+                String.valueOf(toEpochMilli(createdAt)),
+                String.valueOf(HOT_MAX_LEN));
+        return seq == null ? -1L : seq;
+    }
+
+    /**
+     * 순번 키 초기화 -> 이미 다른 요청이 채웠다면 덮어쓰지 않음
+     * 아직 DB 에 저장되지 않은 메시지가 채팅방 stream 에 남아 있을 수 있으므로 DB 최대 seq 와 stream 마지막 seq 중 큰 값으로
+     */
+    public void initSeq(UUID roomId, long dbMaxSeq) {
+        long maxSeq = Math.max(dbMaxSeq, findLastStreamSeq(roomId));
+        redisTemplate.opsForValue().setIfAbsent(SEQ_PREFIX + roomId, String.valueOf(maxSeq));
+    }
+
+    // 채팅방 stream 의 마지막 seq (entry id = "{seq}-0"), 없으면 0
+    private long findLastStreamSeq(UUID roomId) {
+        List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(ROOM_STREAM_PREFIX + roomId, Range.unbounded(), Limit.limit().count(1));
+        if (last == null || last.isEmpty()) {
+            return 0L;
+        }
+        return last.get(0).getId().getTimestamp();
+    }
+
+    // cursorSeq 이전 최근 메시지 (최신순), cursorSeq 가 null 이면 가장 최신부터
+    public List<ChatMessageResponse> findBefore(UUID roomId, Long cursorSeq, int count) {
+        if (cursorSeq != null && cursorSeq <= 1) {
+            return new ArrayList<>();
+        }
+        Range<String> range = cursorSeq == null
+                ? Range.unbounded()
+                : Range.leftUnbounded(Range.Bound.inclusive((cursorSeq - 1) + "-0"));
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .reverseRange(ROOM_STREAM_PREFIX + roomId, range, Limit.limit().count(count));
+
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        if (records == null) {
+            return messages;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            messages.add(new ChatMessageResponse(
+                    Long.valueOf(value.get("seq").toString()),
+                    Long.valueOf(value.get("senderId").toString()),
+                    value.get("content").toString(),
+                    toLocalDateTime(value.get("createdAt").toString())));
+        }
+        return messages;
+    }
+
+    /* ----- flush (consumer group) ----- */
+
+    // consumer group 생성 (stream 이 없으면 함께 생성), 이미 있으면 무시
+    public void createFlushGroup(String group) {
+        try {
+            redisTemplate.opsForStream().createGroup(FLUSH_STREAM, ReadOffset.from("0"), group);
+        } catch (DataAccessException e) {
+            log.debug("chat flush group 이미 존재 = {}", e.getMessage());
+        }
+    }
+
+    /**
+     * flush 대상 읽기
+     * @param pending true 면 이 consumer 가 읽고 ack 하지 못한 메시지부터 (재시작 / insert 실패 재시도)
+     */
+    public List<MapRecord<String, Object, Object>> readFlushBatch(String group, String consumer, boolean pending, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(FLUSH_STREAM, pending ? ReadOffset.from("0") : ReadOffset.lastConsumed()));
+        return records == null ? List.of() : records;
+    }
+
+    // 다른 consumer 의 오래된 pending 을 가져옴 -> 이후 pending 읽기 (ReadOffset 0) 에 포함됨
+    public long claimIdle(String group, String consumer, Duration minIdle, int count) {
+        Long claimed = redisTemplate.execute(AUTO_CLAIM, List.of(FLUSH_STREAM),
+                group, consumer, String.valueOf(minIdle.toMillis()), String.valueOf(count));
+        return claimed == null ? 0L : claimed;
+    }
+
+    // 저장할 수 없는 메시지 -> dead letter stream 에 원본 + 에러를 남기고 flush stream 에서 ack / 삭제
+    public void moveToDeadLetter(String group, MapRecord<String, Object, Object> record, String error) {
+        Map<String, String> fields = new HashMap<>();
+        record.getValue().forEach((key, value) -> fields.put(key.toString(), value == null ? "" : value.toString()));
+        fields.put("flushId", record.getId().getValue());
+        fields.put("error", error == null ? "" : error);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM).ofMap(fields));
+        redisTemplate.opsForStream().trim(DEAD_LETTER_STREAM, DEAD_LETTER_MAX_LEN, true);
+        ackAndDelete(group, List.of(record.getId()));
+    }
+
+    // insert 끝난 메시지 ack 후 flush stream 에서 삭제 (채팅방 stream 의 최근 메시지는 그대로 유지)
+    public void ackAndDelete(String group, List<RecordId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        RecordId[] idArray = ids.toArray(new RecordId[0]);
+        redisTemplate.opsForStream().acknowledge(FLUSH_STREAM, group, idArray);
+        redisTemplate.opsForStream().delete(FLUSH_STREAM, idArray);
+    }
+
+    public static ChatMessage toChatMessage(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        return ChatMessage.builder()
+                .chatRoomId(UUID.fromString(value.get("roomId").toString()))
+                .seq(Long.valueOf(value.get("seq").toString()))
+                .senderId(Long.valueOf(value.get("senderId").toString()))
+                .content(value.get("content").toString())
+                .createdAt(toLocalDateTime(value.get("createdAt").toString()))
+                .build();
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(String epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMilli)), ZoneId.systemDefault());
+    }
+}
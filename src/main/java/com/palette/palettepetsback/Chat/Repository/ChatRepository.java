@@ -1,16 +1,49 @@
 package com.palette.palettepetsback.Chat.Repository;
 
 import com.palette.palettepetsback.Chat.Entity.ChatRoom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface ChatRepository extends JpaRepository<ChatRoom, Long> {
+public interface ChatRepository extends JpaRepository<ChatRoom, UUID> {
 
-    @Query("select chatRoomId from ChatRoom where (user1 = ?1 and user2 = ?2) or (user1 = ?2 and user2 = ?1)")
-    Optional<String> findChatRoomById(Long user1_id, Long user2_id);
+    // 정규화 키 (min_user, max_user) 로 두 회원의 채팅방 조회 -> uk_chat_room_pair 한 번
+    Optional<ChatRoom> findByMinUserAndMaxUser(Long minUser, Long maxUser);
+
+    // insertIfAbsent 직후 재조회용 locking read
+    // -> REPEATABLE READ 스냅샷이 아닌 최신 커밋 값을 읽어서, 다른 트랜잭션이 먼저 만든 채팅방도 보임
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select c from ChatRoom c where c.minUser = :minUser and c.maxUser = :maxUser")
+    Optional<ChatRoom> findLatestByPair(@Param("minUser") Long minUser, @Param("maxUser") Long maxUser);
+
+    // 정규화 키가 비어 있는 (키 추가 전에 만들어진) 채팅방 조회
+    @Query("select c from ChatRoom c where c.minUser is null and " +
+            "((c.user1 = :user1 and c.user2 = :user2) or (c.user1 = :user2 and c.user2 = :user1))")
+    List<ChatRoom> findLegacyChatRooms(@Param("user1") Long user1, @Param("user2") Long user2);
+
+    /**
+     * 채팅방이 없을 때만 생성 (동시에 여러 요청이 와도 uk_chat_room_pair 로 한 건만 남음)
+     * 이미 있으면 아무것도 바꾸지 않음
+     */
+    @Modifying
+    @Query(value = "insert into chat_room (chat_room_id, user1, user2, min_user, max_user) " +
+            "values (:chatRoomId, :user1, :user2, :minUser, :maxUser) " +
+            "on duplicate key update chat_room_id = chat_room_id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("chatRoomId") byte[] chatRoomId,
+                       @Param("user1") Long user1,
+                       @Param("user2") Long user2,
+                       @Param("minUser") Long minUser,
+                       @Param("maxUser") Long maxUser);
+
+    Optional<ChatRoom> findByChatRoomId(UUID chatRoomId);
 
     @Query("select c from ChatRoom c where c.user1 = ?1 or c.user2 = ?1")
     List<ChatRoom> findChatRoomList(Long my_id);
@@ -0,0 +1,33 @@
+package com.palette.palettepetsback.Chat.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원별 채팅방 안 읽은 메시지 수 (redis hash)
+ * - key : chat:unread:{memberId}, field : roomId, value : 안 읽은 수
+ * - 증가는 메시지 append 스크립트 안에서 HINCRBY 로 함께 처리 (ChatMessageStreamRepository)
+ * - 읽음 처리 시 field 삭제 -> 없는 field 는 0
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatUnreadRepository {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long find(Long memberId, String roomId) {
+        Object value = redisTemplate.opsForHash().get(key(memberId), roomId);
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    public void reset(Long memberId, String roomId) {
+        redisTemplate.opsForHash().delete(key(memberId), roomId);
+    }
+
+    static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,163 @@
+package com.palette.palettepetsback.Chat.Service;
+
+import com.palette.palettepetsback.Chat.Entity.ChatMessage;
+import com.palette.palettepetsback.Chat.Repository.ChatMessageBatchRepository;
+import com.palette.palettepetsback.Chat.Repository.ChatMessageStreamRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * redis flush stream -> MySQL chat_message 배치 저장
+ * - 인스턴스마다 consumer 하나 (consumer group 이 메시지를 나눠 줌)
+ * - 다른 consumer 가 오래 ack 하지 못한 메시지를 먼저 가져옴 (XAUTOCLAIM -> 죽었거나 이름이 바뀐 인스턴스의 pending)
+ * - 먼저 ack 하지 못한 메시지(pending)를 다시 저장한 뒤 새 메시지를 읽음
+ * - insert 가 실패하면 ack 하지 않음 -> 다음 주기에 pending 으로 재시도
+ * - 같은 pending 배치가 MAX_BATCH_ATTEMPTS 번 연속 실패하면 한 건씩 저장, 그래도 실패하는 메시지는 dead letter 로 옮김
+ *   (DB 연결 장애처럼 일시적인 실패는 옮기지 않고 다음 주기에 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageFlusher {
+
+    private static final String GROUP = "chat-flusher";
+    private static final int BATCH_SIZE = 500;
+    // 한 주기에 최대 처리할 배치 수 (밀린 메시지가 많아도 스케줄러 스레드를 오래 잡지 않도록)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final ChatMessageStreamRepository chatMessageStreamRepository;
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+
+    @Value("${chat.flush.consumer:${HOSTNAME:chat-flusher-1}}")
+    private String consumer;
+
+    // 이 시간 이상 ack 되지 않은 다른 consumer 의 메시지를 가져옴
+    @Value("${chat.flush.claim-idle-ms:60000}")
+    private long claimIdleMs;
+
+    // pending 배치 연속 실패 횟수 (스케줄러가 한 번에 하나씩 실행)
+    private int failedPendingAttempts;
+
+    @PostConstruct
+    public void init() {
+        try {
+            chatMessageStreamRepository.createFlushGroup(GROUP);
+        } catch (DataAccessException e) {
+            log.warn("chat flush group 생성 실패 -> 다음 주기에 재시도 = {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.flush.interval-ms:1000}")
+    public void flush() {
+        try {
+            // 0. 다른 consumer 에 오래 남아 있는 메시지 가져오기
+            chatMessageStreamRepository.claimIdle(GROUP, consumer, Duration.ofMillis(claimIdleMs), BATCH_SIZE);
+            // 1. 이전에 읽고 저장 / ack 하지 못한 메시지
+            if (flushBatch(true) == BATCH_SIZE) {
+                return; // pending 이 많이 밀려 있으면 다음 주기에 이어서
+            }
+            // 2. 새 메시지
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (flushBatch(false) < BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            // NOGROUP (redis 재시작 등) 이면 그룹 다시 생성
+            log.warn("chat message flush 실패 = {}", e.getMessage());
+            init();
+        }
+    }
+
+    private int flushBatch(boolean pending) {
+        List<MapRecord<String, Object, Object>> records =
+                chatMessageStreamRepository.readFlushBatch(GROUP, consumer, pending, BATCH_SIZE);
+        if (records.isEmpty()) {
+            if (pending) {
+                failedPendingAttempts = 0;
+            }
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> valid = new ArrayList<>(records.size());
+        List<ChatMessage> messages = new ArrayList<>(records.size());
+        List<RecordId> ids = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            ChatMessage message;
+            try {
+                message = ChatMessageStreamRepository.toChatMessage(record);
+            } catch (RuntimeException e) { // 필드가 빠졌거나 형식이 잘못된 메시지 -> 재시도해도 같음
+                log.error("chat message 변환 실패 -> dead letter, id = {}", record.getId(), e);
+                chatMessageStreamRepository.moveToDeadLetter(GROUP, record, e.toString());
+                continue;
+            }
+            valid.add(record);
+            messages.add(message);
+            ids.add(record.getId());
+        }
+        if (messages.isEmpty()) {
+            return records.size();
+        }
+
+        try {
+            chatMessageBatchRepository.insertAll(messages);
+        } catch (DataAccessException e) {
+            if (!pending || isTransient(e) || ++failedPendingAttempts < MAX_BATCH_ATTEMPTS) {
+                throw e;
+            }
+            log.warn("chat message 배치 저장 {}회 실패 -> 한 건씩 저장 = {}", failedPendingAttempts, e.getMessage());
+            insertOneByOne(valid, messages);
+            failedPendingAttempts = 0;
+            return records.size();
+        }
+        if (pending) {
+            failedPendingAttempts = 0;
+        }
+        chatMessageStreamRepository.ackAndDelete(GROUP, ids);
+        return records.size();
+    }
+
+    // 한 건씩 저장 -> 저장된 메시지는 ack, 데이터 문제로 실패한 메시지는 dead letter
+    private void insertOneByOne(List<MapRecord<String, Object, Object>> records, List<ChatMessage> messages) {
+        List<RecordId> saved = new ArrayList<>(records.size());
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                MapRecord<String, Object, Object> record = records.get(i);
+                try {
+                    chatMessageBatchRepository.insertAll(List.of(messages.get(i)));
+                    saved.add(record.getId());
+                } catch (DataAccessException e) {
+                    if (isTransient(e)) {
+                        throw e;
+                    }
+                    log.error("chat message 저장 실패 -> dead letter, id = {}", record.getId(), e);
+                    chatMessageStreamRepository.moveToDeadLetter(GROUP, record, e.getMessage());
+                }
+            }
+        } finally {
+            chatMessageStreamRepository.ackAndDelete(GROUP, saved);
+        }
+    }
+
+    // DB 연결 / 잠금 등 다시 시도하면 성공할 수 있는 실패
+    private static boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+}
@@ -0,0 +1,101 @@
+package com.palette.palettepetsback.Chat.Service;
+
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatMessageResponse;
+import com.palette.palettepetsback.Chat.Entity.ChatRoom;
+import com.palette.palettepetsback.Chat.Repository.ChatMessageRepository;
+import com.palette.palettepetsback.Chat.Repository.ChatMessageStreamRepository;
+import com.palette.palettepetsback.Chat.Repository.ChatUnreadRepository;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 전송 / 이력 조회
+ * - 전송 : redis stream 에 append (순번 발급 + 상대방 안 읽은 수 증가 포함) 후 채팅방 구독자에게 전달
+ *          DB 저장은 ChatMessageFlusher 가 배치로 처리 -> 메시지마다 insert 하지 않음
+ * - 이력 : 최근 메시지는 채팅방 stream 에서, 그 이전은 chat_message 에서 seq 커서로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageService {
+
+    private static final int MAX_CONTENT_LENGTH = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageStreamRepository chatMessageStreamRepository;
+    private final ChatUnreadRepository chatUnreadRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomMembership chatRoomMembership;
+
+    public ChatMessageResponse send(String roomId, Long senderId, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("메시지 내용이 없습니다.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("메시지는 " + MAX_CONTENT_LENGTH + "자 이하만 가능합니다.");
+        }
+        UUID roomUuid = UUID.fromString(roomId);
+        Long receiverId = findReceiver(findRoom(roomUuid), senderId);
+        // stream 에는 ms 단위로 저장되므로 응답도 같은 정밀도로
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        long seq = chatMessageStreamRepository.append(roomUuid, senderId, receiverId, content, now);
+        if (seq < 0) {
+            // 순번 키가 없음 -> DB / 채팅방 stream 중 마지막 seq 부터 이어서 발급
+            chatMessageStreamRepository.initSeq(roomUuid, chatMessageRepository.findMaxSeq(roomUuid));
+            seq = chatMessageStreamRepository.append(roomUuid, senderId, receiverId, content, now);
+        }
+
+        ChatMessageResponse message = new ChatMessageResponse(seq, senderId, content, now);
+        messagingTemplate.convertAndSend("/sub/chat/" + roomId, message);
+        return message;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<ChatMessageResponse> getHistory(String roomId, Long memberId, Long cursor, int size) {
+        UUID roomUuid = UUID.fromString(roomId);
+        findReceiver(findRoom(roomUuid), memberId); // 참여자 확인
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        int limit = pageSize + 1;
+
+        // 1. 최근 메시지는 stream 에서 (아직 DB 에 저장되지 않은 메시지 포함)
+        List<ChatMessageResponse> messages = chatMessageStreamRepository.findBefore(roomUuid, cursor, limit);
+
+        // 2. 모자란 만큼 stream 에 남아 있지 않은 이전 메시지를 DB 에서
+        if (messages.size() < limit) {
+            Long dbCursor = messages.isEmpty() ? cursor : messages.get(messages.size() - 1).getSeq();
+            PageRequest remain = PageRequest.of(0, limit - messages.size());
+            messages.addAll(dbCursor == null
+                    ? chatMessageRepository.findLatest(roomUuid, remain)
+                    : chatMessageRepository.findBefore(roomUuid, dbCursor, remain));
+        }
+
+        return CursorSlice.of(messages, pageSize, ChatMessageResponse::getSeq);
+    }
+
+    // 채팅방 읽음 처리 -> 안 읽은 수 초기화
+    public void markRead(String roomId, Long memberId) {
+        findReceiver(findRoom(UUID.fromString(roomId)), memberId); // 참여자 확인
+        chatUnreadRepository.reset(memberId, roomId);
+    }
+
+    private ChatRoom findRoom(UUID roomId) {
+        return chatRoomMembership.findRoom(roomId);
+    }
+
+    private Long findReceiver(ChatRoom room, Long memberId) {
+        return chatRoomMembership.findReceiver(room, memberId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.palette.palettepetsback.Chat.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palette.palettepetsback.Chat.Entity.ChatRoom;
+import com.palette.palettepetsback.Chat.Repository.ChatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 채팅방 참여자 조회 (메시지 전송 / 이력 조회 / STOMP 구독 권한 확인 공용)
+ * 채팅방 참여자는 바뀌지 않으므로 요청마다 DB 조회하지 않도록 로컬 캐시
+ * (SimpMessagingTemplate 에 의존하지 않음 -> STOMP 인터셉터에서도 순환 참조 없이 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembership {
+
+    private final ChatRepository chatRepository;
+
+    private final Cache<UUID, ChatRoom> roomCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    public ChatRoom findRoom(UUID roomId) {
+        return roomCache.get(roomId, id -> chatRepository.findByChatRoomId(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 채팅방입니다.")));
+    }
+
+    // memberId 가 참여자가 아니면 예외, 참여자면 상대방 id 반환
+    public Long findReceiver(ChatRoom room, Long memberId) {
+        if (memberId.equals(room.getUser1())) {
+            return room.getUser2();
+        }
+        if (memberId.equals(room.getUser2())) {
+            return room.getUser1();
+        }
+        throw new IllegalArgumentException("채팅방 참여자가 아닙니다.");
+    }
+
+    // 참여자 여부 (없는 채팅방 / 잘못된 id 도 false)
+    public boolean isParticipant(String roomId, Long memberId) {
+        try {
+            ChatRoom room = findRoom(UUID.fromString(roomId));
+            return memberId.equals(room.getUser1()) || memberId.equals(room.getUser2());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
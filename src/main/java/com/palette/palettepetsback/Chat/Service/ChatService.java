@@ -1,42 +1,130 @@
 package com.palette.palettepetsback.Chat.Service;
 
+import com.palette.palettepetsback.Chat.Controller.DTO.ChatRoomListResponse;
 import com.palette.palettepetsback.Chat.Entity.ChatRoom;
+import com.palette.palettepetsback.Chat.Repository.ChatInboxRepository;
+import com.palette.palettepetsback.Chat.Repository.ChatInboxRepository.InboxSnapshot;
+import com.palette.palettepetsback.Chat.Repository.ChatMessageRepository;
 import com.palette.palettepetsback.Chat.Repository.ChatRepository;
+import com.palette.palettepetsback.config.SingleTon.UuidV7;
+import com.palette.palettepetsback.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
     private final ChatRepository chatRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final MemberRepository memberRepository;
 
+    /**
+     * 두 회원의 채팅방 id (없으면 생성)
+     * 1. 정규화 키로 조회
+     * 2. 정규화 키 추가 전에 만들어진 채팅방이면 키를 채워서 반환
+     * 3. insert ... on duplicate key -> 동시에 열어도 채팅방은 하나, 다시 조회해서 반환
+     */
     @Transactional
     public String getChatRoom(Long my_id, Long receiver_id){
-        String room_name = chatRepository.findChatRoomById(my_id, receiver_id).orElse(null);
-        if (room_name == null) {
-            System.out.println("room is NULL");
-            return createChatRoom(my_id, receiver_id);
+        if (my_id.equals(receiver_id)) {
+            throw new IllegalArgumentException("자기 자신과는 채팅할 수 없습니다.");
         }
-        return room_name;
-    }
+        Long minUser = Math.min(my_id, receiver_id);
+        Long maxUser = Math.max(my_id, receiver_id);
 
-    @Transactional
-    public String createChatRoom(Long user1, Long user2){
-        ChatRoom chatRoom = chatRepository.save(
-                ChatRoom.builder()
-                        .user1(user1)
-                        .user2(user2)
-                        .build()
-        );
-        return chatRoom.getChatRoomId().toString();
+        Optional<ChatRoom> chatRoom = chatRepository.findByMinUserAndMaxUser(minUser, maxUser);
+        if (chatRoom.isPresent()) {
+            return chatRoom.get().getChatRoomId().toString();
+        }
+
+        List<ChatRoom> legacyRooms = chatRepository.findLegacyChatRooms(my_id, receiver_id);
+        if (!legacyRooms.isEmpty()) {
+            ChatRoom legacy = legacyRooms.get(0);
+            legacy.canonicalize(); // 변경 감지로 커밋 시 반영
+            return legacy.getChatRoomId().toString();
+        }
+
+        chatRepository.insertIfAbsent(UuidV7.toBytes(UuidV7.generate()), my_id, receiver_id, minUser, maxUser);
+        return chatRepository.findLatestByPair(minUser, maxUser)
+                .orElseThrow(() -> new IllegalStateException("채팅방 생성에 실패했습니다."))
+                .getChatRoomId().toString();
     }
 
+    /**
+     * 채팅방 목록 (마지막 메시지 최신순)
+     * 채팅방 수와 상관없이 조회 횟수 고정
+     *  1. 채팅방 목록 (DB)
+     *  2. 상대방 닉네임 in 조회 (DB)
+     *  3. 안 읽은 수 + 마지막 메시지 시각 파이프라인 (redis)
+     *  4. redis 에 마지막 메시지 시각이 없는 채팅방만 group by 조회 (DB, 필요할 때만)
+     */
     @Transactional(readOnly = true)
-    public List<ChatRoom> getChatRoomList(Long my_id){
-        return chatRepository.findChatRoomList(my_id);
+    public List<ChatRoomListResponse> getInbox(Long myId) {
+        List<ChatRoom> rooms = chatRepository.findChatRoomList(myId);
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> counterpartIds = new HashSet<>();
+        for (ChatRoom room : rooms) {
+            counterpartIds.add(counterpartId(room, myId));
+        }
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Object[] row : memberRepository.findNicknamesByMemberIds(counterpartIds)) {
+            nicknames.put((Long) row[0], (String) row[1]);
+        }
+
+        InboxSnapshot snapshot = chatInboxRepository.find(myId);
+        Map<String, LocalDateTime> lastMessageAt = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (ChatRoom room : rooms) {
+            String roomId = room.getChatRoomId().toString();
+            Long epochMilli = snapshot.getLastMessageAt().get(roomId);
+            if (epochMilli != null) {
+                lastMessageAt.put(roomId, LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault()));
+            } else {
+                missing.add(room.getChatRoomId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Object[] row : chatMessageRepository.findLastMessageAtByRoomIds(missing)) {
+                lastMessageAt.put(row[0].toString(), (LocalDateTime) row[1]);
+            }
+        }
+
+        List<ChatRoomListResponse> response = new ArrayList<>(rooms.size());
+        for (ChatRoom room : rooms) {
+            String roomId = room.getChatRoomId().toString();
+            Long userId = counterpartId(room, myId);
+            response.add(new ChatRoomListResponse(
+                    roomId,
+                    userId,
+                    nicknames.get(userId), // 탈퇴 등으로 회원이 없으면 null
+                    snapshot.getUnread().getOrDefault(roomId, 0L),
+                    lastMessageAt.get(roomId)));
+        }
+        response.sort(Comparator.comparing(ChatRoomListResponse::getLastMessageAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return response;
+    }
+
+    private Long counterpartId(ChatRoom room, Long myId) {
+        return myId.equals(room.getUser1()) ? room.getUser2() : room.getUser1();
     }
 }
@@ -0,0 +1,38 @@
+package com.palette.palettepetsback.analytics.controller;
+
+import com.palette.palettepetsback.analytics.dto.response.StatsPeriod;
+import com.palette.palettepetsback.analytics.dto.response.VisitorStatsResponse;
+import com.palette.palettepetsback.analytics.service.VisitorAnalyticsService;
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit.ContentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자용 순 방문자 통계
+ * ex) GET /api/admin/stats/visitors?type=ARTICLE&id=1&period=WEEK&date=2024-06-03
+ *     id 생략 시 게시판 전체, date 생략 시 오늘
+ */
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class VisitorStatsController {
+
+    private final VisitorAnalyticsService visitorAnalyticsService;
+
+    @GetMapping("/visitors")
+    public ResponseEntity<VisitorStatsResponse> getVisitorStats(@RequestParam("type") ContentType type,
+                                                                @RequestParam(value = "id", required = false) Long id,
+                                                                @RequestParam(value = "period", defaultValue = "DAY") StatsPeriod period,
+                                                                @RequestParam(value = "date", required = false)
+                                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate baseDate = date == null ? LocalDate.now() : date;
+        return ResponseEntity.ok(visitorAnalyticsService.getStats(type, id, period, baseDate));
+    }
+}
@@ -0,0 +1,7 @@
+package com.palette.palettepetsback.analytics.dto.response;
+
+public enum StatsPeriod {
+    DAY,
+    WEEK,
+    MONTH
+}
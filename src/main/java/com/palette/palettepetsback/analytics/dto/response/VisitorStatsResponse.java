@@ -0,0 +1,21 @@
+package com.palette.palettepetsback.analytics.dto.response;
+
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class VisitorStatsResponse {
+
+    private ViewerLimit.ContentType contentType;
+    // null 이면 게시판 전체
+    private Long contentId;
+    private StatsPeriod period;
+    // 기간에 포함되는 기준 날짜
+    private LocalDate date;
+    // 순 방문자 수 (HyperLogLog 추정치, 표준 오차 약 0.81%)
+    private long uniqueVisitors;
+}
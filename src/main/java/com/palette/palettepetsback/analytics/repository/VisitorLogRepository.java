@@ -0,0 +1,131 @@
+package com.palette.palettepetsback.analytics.repository;
+
+import com.palette.palettepetsback.analytics.dto.response.StatsPeriod;
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit.ContentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순 방문자 HyperLogLog 저장소 (redis)
+ * - visitor:{type}:{id}:d:{yyyyMMdd}  -> 게시글 일별 방문자
+ * - visitor:{type}:board:d:{yyyyMMdd} -> 게시판 전체 일별 방문자
+ * - visitor:{type}:{id | board}:w:{yyyy}W{ww} / :m:{yyyyMM} -> 주별 / 월별 (일별 키를 PFMERGE)
+ * - visitor:{type}:ids:{yyyyMMdd} -> 그날 방문 기록이 있는 id SET (병합 대상 목록)
+ * 키 하나당 최대 12KB, 방문 기록 row 를 저장하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class VisitorLogRepository {
+
+    private static final String KEY_PREFIX = "visitor:";
+    private static final String BOARD = "board";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final Duration DAY_TTL = Duration.ofDays(35);
+    private static final Duration IDS_TTL = Duration.ofDays(3);
+    private static final Duration WEEK_TTL = Duration.ofDays(120);
+    private static final Duration MONTH_TTL = Duration.ofDays(400);
+
+    private static final int MERGE_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 게시글 + 게시판 일별 HLL 에 방문자 추가 (파이프라인 1회 왕복)
+    public void add(ContentType type, Long contentId, LocalDate date, String viewer) {
+        String postKey = key(type, String.valueOf(contentId), StatsPeriod.DAY, date);
+        String boardKey = key(type, BOARD, StatsPeriod.DAY, date);
+        String idsKey = idsKey(type, date);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHyperLogLog().add(postKey, viewer);
+                ops.opsForHyperLogLog().add(boardKey, viewer);
+                ops.opsForSet().add(idsKey, String.valueOf(contentId));
+                ops.expire(postKey, DAY_TTL);
+                ops.expire(boardKey, DAY_TTL);
+                ops.expire(idsKey, IDS_TTL);
+                return null;
+            }
+        });
+    }
+
+    // 순 방문자 수 -> 여러 키를 주면 합집합 기준으로 계산
+    public long count(List<String> keys) {
+        Long size = redisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+        return size == null ? 0L : size;
+    }
+
+    // date 의 일별 키를 해당 주 / 월 키에 병합 (게시판 + 그날 방문된 모든 게시글)
+    public void mergeDay(ContentType type, LocalDate date) {
+        List<String> targets = new ArrayList<>();
+        targets.add(BOARD);
+
+        ScanOptions options = ScanOptions.scanOptions().count(MERGE_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(idsKey(type, date), options)) {
+            while (cursor.hasNext()) {
+                targets.add(cursor.next());
+                if (targets.size() >= MERGE_BATCH_SIZE) {
+                    mergeBatch(type, date, targets);
+                    targets.clear();
+                }
+            }
+        }
+        if (!targets.isEmpty()) {
+            mergeBatch(type, date, targets);
+        }
+    }
+
+    private void mergeBatch(ContentType type, LocalDate date, List<String> targets) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String target : targets) {
+                    String dayKey = key(type, target, StatsPeriod.DAY, date);
+                    String weekKey = key(type, target, StatsPeriod.WEEK, date);
+                    String monthKey = key(type, target, StatsPeriod.MONTH, date);
+                    // PFMERGE 는 합집합이라 같은 날을 여러 번 병합해도 결과가 같음
+                    ops.opsForHyperLogLog().union(weekKey, weekKey, dayKey);
+                    ops.opsForHyperLogLog().union(monthKey, monthKey, dayKey);
+                    ops.expire(weekKey, WEEK_TTL);
+                    ops.expire(monthKey, MONTH_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    public String key(ContentType type, Long contentId, StatsPeriod period, LocalDate date) {
+        return key(type, contentId == null ? BOARD : String.valueOf(contentId), period, date);
+    }
+
+    private String key(ContentType type, String target, StatsPeriod period, LocalDate date) {
+        String prefix = KEY_PREFIX + type.name().toLowerCase() + ":" + target;
+        return switch (period) {
+            case DAY -> prefix + ":d:" + date.format(DAY_FORMAT);
+            case WEEK -> prefix + ":w:" + date.get(IsoFields.WEEK_BASED_YEAR) + "W" + String.format("%02d", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTH -> prefix + ":m:" + date.format(MONTH_FORMAT);
+        };
+    }
+
+    private String idsKey(ContentType type, LocalDate date) {
+        return KEY_PREFIX + type.name().toLowerCase() + ":ids:" + date.format(DAY_FORMAT);
+    }
+}
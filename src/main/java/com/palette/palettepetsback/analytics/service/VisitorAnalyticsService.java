@@ -0,0 +1,74 @@
+package com.palette.palettepetsback.analytics.service;
+
+import com.palette.palettepetsback.analytics.dto.response.StatsPeriod;
+import com.palette.palettepetsback.analytics.dto.response.VisitorStatsResponse;
+import com.palette.palettepetsback.analytics.repository.VisitorLogRepository;
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit;
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit.ContentType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순 방문자 통계
+ * - 상세 조회 시 record() -> 게시글 / 게시판 일별 HLL 에 조회자 추가
+ * - 매일 00:10 전날 일별 HLL 을 주별 / 월별 HLL 에 병합
+ * - 주별 / 월별 조회 시 아직 병합되지 않은 어제 / 오늘 일별 키를 함께 PFCOUNT (합집합)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitorAnalyticsService {
+
+    private final VisitorLogRepository visitorLogRepository;
+
+    // 통계 기록 실패가 상세 조회를 막지 않도록 예외는 로그만 남김
+    public void record(HttpServletRequest request, ContentType type, Long contentId) {
+        try {
+            visitorLogRepository.add(type, contentId, LocalDate.now(), ViewerLimit.resolveViewer(request));
+        } catch (DataAccessException e) {
+            log.warn("[VisitorAnalytics] 방문자 기록 실패 - type = {}, id = {}, {}", type, contentId, e.getMessage());
+        }
+    }
+
+    /**
+     * @param contentId null 이면 게시판 전체
+     */
+    public VisitorStatsResponse getStats(ContentType type, Long contentId, StatsPeriod period, LocalDate date) {
+        List<String> keys = new ArrayList<>();
+        keys.add(visitorLogRepository.key(type, contentId, period, date));
+
+        if (period != StatsPeriod.DAY) {
+            LocalDate today = LocalDate.now();
+            for (LocalDate day : List.of(today.minusDays(1), today)) {
+                // 같은 주 / 월에 속하는 미병합 일별 키만 추가
+                if (visitorLogRepository.key(type, contentId, period, day).equals(keys.get(0))) {
+                    keys.add(visitorLogRepository.key(type, contentId, StatsPeriod.DAY, day));
+                }
+            }
+        }
+
+        return new VisitorStatsResponse(type, contentId, period, date, visitorLogRepository.count(keys));
+    }
+
+    // 여러 서버에서 동시에 실행되어도 PFMERGE 는 합집합이므로 결과가 같음
+    @Scheduled(cron = "0 10 0 * * *")
+    public void mergeYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        for (ContentType type : ContentType.values()) {
+            try {
+                visitorLogRepository.mergeDay(type, yesterday);
+            } catch (DataAccessException e) {
+                log.error("[VisitorAnalytics] 일별 방문자 병합 실패 - type = {}, date = {}", type, yesterday, e);
+            }
+        }
+        log.info("[VisitorAnalytics] {} 방문자 주별 / 월별 병합 완료", yesterday);
+    }
+}
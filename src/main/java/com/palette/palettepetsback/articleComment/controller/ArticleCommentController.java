@@ -3,10 +3,10 @@ package com.palette.palettepetsback.articleComment.controller;
 import com.palette.palettepetsback.Article.Article;
 import com.palette.palettepetsback.Article.articleView.service.ArticleService;
 import com.palette.palettepetsback.Article.articleWrite.response.Response;
-import com.palette.palettepetsback.Article.articleWrite.service.ArticleWriteService;
 import com.palette.palettepetsback.articleComment.dto.request.ArticleCommentAddRequest;
 import com.palette.palettepetsback.articleComment.dto.request.ArticleCommentUpdateRequest;
 import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentListResponse;
+import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse;
 import com.palette.palettepetsback.articleComment.entity.ArticleComment;
 import com.palette.palettepetsback.articleComment.repository.ArticleCommentRepository;
 import com.palette.palettepetsback.articleComment.service.ArticleCommentService;
@@ -14,15 +14,19 @@ import com.palette.palettepetsback.articleComment.service.ArticleCommentService;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.member.entity.Member;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 //import static com.palette.palettepetsback.Article.QArticle.article;
 
@@ -35,7 +39,6 @@ public class ArticleCommentController {
     private final ArticleCommentService articleCommentService;
     private final ArticleService articleService;
     private final ArticleCommentRepository articleCommentRepository;
-    private final ArticleWriteService articleWriteService;
 
     //Get
     @GetMapping("/Get/comments/{articleId}")
@@ -43,12 +46,48 @@ public class ArticleCommentController {
         //List<ArticleCommentListResponse>
         //서비스에 위임
         Article article = articleService.findById(articleId);
+        // 없는 게시글 / 신고 누적으로 자동 숨김된 게시글
+        if (article == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
 
         //결과 응답
         return ResponseEntity.status(HttpStatus.OK).body(articleCommentService.comments(articleId));
     }
 
 
+    // 페이지 단위 조회 : 최상위 댓글 커서 페이지 + 댓글별 앞쪽 답글 replySize 개
+    @GetMapping("/Get/comments/{articleId}/page")
+    public ResponseEntity<CursorSlice<ArticleCommentNodeResponse>> commentPage(@PathVariable Long articleId,
+                                                                               @RequestParam(value = "cursorCreatedAt", required = false)
+                                                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                               @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                                               @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                               @RequestParam(value = "replySize", defaultValue = "3") int replySize) {
+        if (articleService.isHidden(articleId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok(articleCommentService.getCommentPage(articleId, cursorCreatedAt, cursorId, size, replySize));
+    }
+
+    // 답글 더보기
+    @GetMapping("/Get/comments/replies/{parentId}")
+    public ResponseEntity<CursorSlice<ArticleCommentNodeResponse>> replyPage(@PathVariable Long parentId,
+                                                                             @RequestParam(value = "cursorCreatedAt", required = false)
+                                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                             @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(articleCommentService.getReplyPage(parentId, cursorCreatedAt, cursorId, size));
+    }
+
+
+    // 게시글 여러 개의 댓글 수 (목록 화면용) ex) /Get/comments/counts?articleIds=1,2,3
+    @GetMapping("/Get/comments/counts")
+    public ResponseEntity<Map<Long, Integer>> commentCounts(@RequestParam("articleIds") List<Long> articleIds) {
+        return ResponseEntity.ok(articleCommentService.getCommentCounts(articleIds));
+    }
+
+
     //POST
     @PostMapping("/Post/comments")
     public ResponseEntity<String> create(@Valid @RequestBody ArticleCommentAddRequest dto) {
@@ -62,8 +101,6 @@ public class ArticleCommentController {
          ArticleComment comment = articleCommentService.create(dto);
         log.info("dto = {}",dto);
 
-        articleWriteService.updateCountReviews(dto.getArticleId());
-
         return ResponseEntity.ok("작성하신 댓글이 등록되었습니다.");
     }
 
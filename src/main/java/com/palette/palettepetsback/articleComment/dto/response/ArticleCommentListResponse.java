@@ -12,12 +12,15 @@ import java.util.List;
 @Getter
 @Setter
 @ToString
+@NoArgsConstructor
 public class ArticleCommentListResponse {
 
     private Long articleCommentId;
     private String content;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime createAt;
+    //작성자 id -> 닉네임, 프로필 사진은 조회 시 회원 요약 캐시에서 채움 (댓글 트리 캐시에는 저장하지 않음)
+    private Long memberId;
     //Member 닉네임, 프로필 사진
     private String memberNickname;
     private String memberImage;
@@ -32,9 +35,20 @@ public class ArticleCommentListResponse {
         this.memberImage = memberImage;
     }
 
+    // 캐시용 -> 작성자는 id 만 (member 프록시 초기화 없이 FK 값만 사용)
     public static ArticleCommentListResponse convertCommentToDto(ArticleComment comment) {
-        return comment.isDeleted() ?
-                new ArticleCommentListResponse(comment.getArticleCommentId(), "삭제된 댓글입니다.", null, null,null) :
-                new ArticleCommentListResponse(comment.getArticleCommentId(),comment.getContent(), comment.getUpdatedAt(), comment.getMember().getMemberNickname(), comment.getMember().getMemberImage());
+        if (comment.isDeleted()) {
+            return new ArticleCommentListResponse(comment.getArticleCommentId(), "삭제된 댓글입니다.", null, null, null);
+        }
+        ArticleCommentListResponse dto = new ArticleCommentListResponse(comment.getArticleCommentId(), comment.getContent(), comment.getUpdatedAt(), null, null);
+        dto.setMemberId(comment.getMember().getMemberId());
+        return dto;
+    }
+
+    // 캐시된 노드는 여러 요청이 공유 -> 작성자 정보는 복사본에 채움
+    public ArticleCommentListResponse copyWithAuthor(String memberNickname, String memberImage) {
+        ArticleCommentListResponse copy = new ArticleCommentListResponse(articleCommentId, content, createAt, memberNickname, memberImage);
+        copy.setMemberId(memberId);
+        return copy;
     }
 }
@@ -0,0 +1,53 @@
+package com.palette.palettepetsback.articleComment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 페이지 단위 댓글 조회용 댓글 (작성자 닉네임 / 프로필 포함 projection)
+ * - replies : 미리 가져온 앞쪽 답글 N개
+ * - replyCount : 전체 답글 수 -> replies 보다 많으면 답글 페이지 API 로 이어서 조회
+ */
+@Getter
+@Setter
+@ToString
+public class ArticleCommentNodeResponse {
+
+    private Long articleCommentId;
+    private Long parentId;
+    private String content;
+    // 커서 값 (정렬 기준)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS", timezone = "Asia/Seoul")
+    private LocalDateTime createdAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime updatedAt;
+    //Member 닉네임, 프로필 사진
+    private String memberNickname;
+    private String memberImage;
+
+    private long replyCount;
+    private List<ArticleCommentNodeResponse> replies = new ArrayList<>();
+
+    // JPQL 생성자 projection
+    public ArticleCommentNodeResponse(Long articleCommentId, Long parentId, String content,
+                                      LocalDateTime createdAt, LocalDateTime updatedAt, boolean deleted,
+                                      String memberNickname, String memberImage) {
+        this.articleCommentId = articleCommentId;
+        this.parentId = parentId;
+        this.createdAt = createdAt;
+        if (deleted) {
+            this.content = "삭제된 댓글입니다.";
+        } else {
+            this.content = content;
+            this.updatedAt = updatedAt;
+            this.memberNickname = memberNickname;
+            this.memberImage = memberImage;
+        }
+    }
+}
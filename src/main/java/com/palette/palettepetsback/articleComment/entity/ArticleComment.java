@@ -17,7 +17,10 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name="article_comment")
+@Table(name="article_comment", indexes = {
+        // 게시글별 최상위 댓글 / 답글 커서 페이지 조회용
+        @Index(name = "idx_article_comment_article_parent_created", columnList = "article_id, parent_id, created_at")
+})
 @Getter
 public class ArticleComment {
 
@@ -0,0 +1,16 @@
+package com.palette.palettepetsback.articleComment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글의 댓글이 작성 / 수정 / 삭제됨 -> 커밋 후 댓글 트리 캐시 버전 증가
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ArticleCommentChangedEvent {
+
+    private final Long articleId;
+}
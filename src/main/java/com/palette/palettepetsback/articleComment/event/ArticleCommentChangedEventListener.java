@@ -0,0 +1,26 @@
+package com.palette.palettepetsback.articleComment.event;
+
+import com.palette.palettepetsback.articleComment.repository.ArticleCommentTreeCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleCommentChangedEventListener {
+
+    private final ArticleCommentTreeCache articleCommentTreeCache;
+
+    // 커밋 이후에 버전 증가 -> 커밋 전 데이터로 새 버전 캐시가 만들어지는 경우 방지
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCommentChanged(ArticleCommentChangedEvent event) {
+        try {
+            articleCommentTreeCache.bumpVersion(event.getArticleId());
+        } catch (Exception e) {
+            log.error("Failed to bump comment tree version, event = {}", event, e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.palette.palettepetsback.articleComment.repository;
 
 import com.palette.palettepetsback.Article.Article;
+import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse;
 import com.palette.palettepetsback.articleComment.entity.ArticleComment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ArticleCommentRepository extends JpaRepository<ArticleComment,Long> {
@@ -13,5 +17,71 @@ public interface ArticleCommentRepository extends JpaRepository<ArticleComment,L
 
     @Query("SELECT MAX(e.articleCommentId) FROM ArticleComment e")
     Long findMaxId();
-}
 
+    // 최상위 댓글 첫 페이지 (작성자 정보 포함 projection -> member N+1 없음)
+    @Query("select new com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse(" +
+            "   c.articleCommentId, c.parentId.articleCommentId, c.content, c.createdAt, c.updatedAt, c.isDeleted, m.memberNickname, m.memberImage" +
+            ") " +
+            "from ArticleComment c join c.member m " +
+            "where c.article.articleId = :articleId and c.parentId is null " +
+            "order by c.createdAt asc, c.articleCommentId asc")
+    List<ArticleCommentNodeResponse> findTopLevelFirstPage(@Param("articleId") Long articleId, Pageable pageable);
+
+    // 최상위 댓글 다음 페이지 -> 커서(createdAt, id) 이후만 조회 (offset 미사용)
+    @Query("select new com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse(" +
+            "   c.articleCommentId, c.parentId.articleCommentId, c.content, c.createdAt, c.updatedAt, c.isDeleted, m.memberNickname, m.memberImage" +
+            ") " +
+            "from ArticleComment c join c.member m " +
+            "where c.article.articleId = :articleId and c.parentId is null " +
+            "and (c.createdAt > :cursorCreatedAt or (c.createdAt = :cursorCreatedAt and c.articleCommentId > :cursorId)) " +
+            "order by c.createdAt asc, c.articleCommentId asc")
+    List<ArticleCommentNodeResponse> findTopLevelAfterCursor(@Param("articleId") Long articleId,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    // 답글 첫 페이지
+    @Query("select new com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse(" +
+            "   c.articleCommentId, c.parentId.articleCommentId, c.content, c.createdAt, c.updatedAt, c.isDeleted, m.memberNickname, m.memberImage" +
+            ") " +
+            "from ArticleComment c join c.member m " +
+            "where c.parentId.articleCommentId = :parentId " +
+            "order by c.createdAt asc, c.articleCommentId asc")
+    List<ArticleCommentNodeResponse> findRepliesFirstPage(@Param("parentId") Long parentId, Pageable pageable);
+
+    // 답글 다음 페이지
+    @Query("select new com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse(" +
+            "   c.articleCommentId, c.parentId.articleCommentId, c.content, c.createdAt, c.updatedAt, c.isDeleted, m.memberNickname, m.memberImage" +
+            ") " +
+            "from ArticleComment c join c.member m " +
+            "where c.parentId.articleCommentId = :parentId " +
+            "and (c.createdAt > :cursorCreatedAt or (c.createdAt = :cursorCreatedAt and c.articleCommentId > :cursorId)) " +
+            "order by c.createdAt asc, c.articleCommentId asc")
+    List<ArticleCommentNodeResponse> findRepliesAfterCursor(@Param("parentId") Long parentId,
+                                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                            @Param("cursorId") Long cursorId,
+                                                            Pageable pageable);
+
+    // 부모 댓글별 앞쪽 답글 id N개 (부모 여러 개를 한 번에 조회)
+    @Query(nativeQuery = true, value =
+            "select r.article_comment_id from (" +
+            "   select c.article_comment_id, " +
+            "          row_number() over (partition by c.parent_id order by c.created_at, c.article_comment_id) as rn " +
+            "   from article_comment c where c.parent_id in (:parentIds)" +
+            ") r where r.rn <= :limit")
+    List<Long> findFirstReplyIdsByParentIds(@Param("parentIds") List<Long> parentIds, @Param("limit") int limit);
+
+    @Query("select new com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse(" +
+            "   c.articleCommentId, c.parentId.articleCommentId, c.content, c.createdAt, c.updatedAt, c.isDeleted, m.memberNickname, m.memberImage" +
+            ") " +
+            "from ArticleComment c join c.member m " +
+            "where c.articleCommentId in :ids " +
+            "order by c.createdAt asc, c.articleCommentId asc")
+    List<ArticleCommentNodeResponse> findNodesByIds(@Param("ids") List<Long> ids);
+
+    // 댓글별 직속 답글 수 -> [parentId, count]
+    @Query("select c.parentId.articleCommentId, count(c) from ArticleComment c " +
+            "where c.parentId.articleCommentId in :parentIds " +
+            "group by c.parentId.articleCommentId")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
+}
@@ -0,0 +1,96 @@
+package com.palette.palettepetsback.articleComment.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 트리 캐시 (로컬 near cache + redis)
+ * - commentTree:version:{articleId} -> 댓글 변경 시 INCR (커밋 후)
+ * - commentTree:v2:{articleId}:{version} -> 트리 JSON (댓글 id / 내용 / 작성자 id 만, 닉네임 / 프로필은 조회 시 회원 요약 캐시에서)
+ * - 로컬 캐시도 (articleId, version) 을 키로 사용 -> 버전이 바뀌면 이전 트리는 다시 읽히지 않음
+ *
+ * 조회 : 버전 GET 1회 -> 로컬 hit 이면 바로 반환 -> redis hit -> DB 조회 후 양쪽 저장
+ * TTL 은 정합성이 아닌 메모리 정리 용도
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ArticleCommentTreeCache {
+
+    private static final String VERSION_PREFIX = "commentTree:version:";
+    // v2 : 작성자 닉네임 / 프로필 제외 (이전 형식 트리는 읽지 않음)
+    private static final String TREE_PREFIX = "commentTree:v2:";
+    private static final Duration TREE_TTL = Duration.ofHours(1);
+    private static final TypeReference<List<ArticleCommentListResponse>> TREE_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, List<ArticleCommentListResponse>> nearCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public List<ArticleCommentListResponse> get(Long articleId, Supplier<List<ArticleCommentListResponse>> loader) {
+        String treeKey;
+        try {
+            treeKey = TREE_PREFIX + articleId + ":" + currentVersion(articleId);
+        } catch (DataAccessException e) {
+            // redis 장애 시 캐시 없이 DB 조회 (버전을 알 수 없으므로 로컬 캐시도 사용하지 않음)
+            log.warn("[ArticleCommentTreeCache] redis 사용 불가 -> DB 조회, articleId = {}", articleId);
+            return loader.get();
+        }
+
+        List<ArticleCommentListResponse> local = nearCache.getIfPresent(treeKey);
+        if (local != null) {
+            return local;
+        }
+
+        List<ArticleCommentListResponse> tree = readRemote(treeKey);
+        if (tree == null) {
+            tree = loader.get();
+            writeRemote(treeKey, tree);
+        }
+        nearCache.put(treeKey, tree);
+        return tree;
+    }
+
+    public void bumpVersion(Long articleId) {
+        redisTemplate.opsForValue().increment(VERSION_PREFIX + articleId);
+    }
+
+    private long currentVersion(Long articleId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + articleId);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    private List<ArticleCommentListResponse> readRemote(String treeKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(treeKey);
+            return json == null ? null : objectMapper.readValue(json, TREE_TYPE);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[ArticleCommentTreeCache] 캐시 읽기 실패, key = {}, {}", treeKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String treeKey, List<ArticleCommentListResponse> tree) {
+        try {
+            redisTemplate.opsForValue().set(treeKey, objectMapper.writeValueAsString(tree), TREE_TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[ArticleCommentTreeCache] 캐시 저장 실패, key = {}, {}", treeKey, e.getMessage());
+        }
+    }
+}
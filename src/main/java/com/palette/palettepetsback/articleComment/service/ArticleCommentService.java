@@ -4,31 +4,43 @@ package com.palette.palettepetsback.articleComment.service;
 import com.palette.palettepetsback.Article.Article;
 import com.palette.palettepetsback.Article.Article;
 import com.palette.palettepetsback.Article.articleView.repository.ArticleRepository;
+import com.palette.palettepetsback.Article.articleWrite.repository.ArticleWriteRepository;
 import com.palette.palettepetsback.Article.exception.type.AuthInfoDtoNotEqualsException;
 import com.palette.palettepetsback.Article.exception.type.CommentNotFoundException;
 import com.palette.palettepetsback.articleComment.dto.request.ArticleCommentAddRequest;
 import com.palette.palettepetsback.articleComment.dto.request.ArticleCommentUpdateRequest;
 import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentListResponse;
+import com.palette.palettepetsback.articleComment.dto.response.ArticleCommentNodeResponse;
 import com.palette.palettepetsback.articleComment.entity.ArticleComment;
 import com.palette.palettepetsback.articleComment.entity.QArticleComment;
+import com.palette.palettepetsback.articleComment.event.ArticleCommentChangedEvent;
+import com.palette.palettepetsback.articleComment.repository.ArticleCommentTreeCache;
 import com.palette.palettepetsback.articleComment.repository.ArticleCommentRepository;
 
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
+import com.palette.palettepetsback.member.dto.MemberSummary;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.palette.palettepetsback.articleComment.dto.response.ArticleCommentListResponse.convertCommentToDto;
@@ -38,10 +50,19 @@ import static com.palette.palettepetsback.articleComment.dto.response.ArticleCom
 @Slf4j
 @RequiredArgsConstructor
 public class ArticleCommentService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_REPLY_PREVIEW_SIZE = 10;
+    private static final int MAX_COUNT_IDS = 100;
+
     private final ArticleCommentRepository articleCommentRepository;
     private final ArticleRepository articleRepository;
+    private final ArticleWriteRepository articleWriteRepository;
     private final MemberRepository memberRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final ArticleCommentTreeCache articleCommentTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberSummaryService memberSummaryService;
 
 //    @Transactional(readOnly = true)
 //    public List<ArticleCommentDto> comments(Article article) {
@@ -51,9 +72,28 @@ public class ArticleCommentService {
 //                .collect(Collectors.toList()); //스트림을 리스트로 변환
 //    }
 
-    //댓글 조회
-    @Transactional
+    //댓글 조회 -> 댓글 트리 캐시 (댓글 변경 시 버전 증가로 무효화)
+    //작성자 닉네임 / 프로필은 캐시하지 않고 회원 요약 캐시에서 채움 -> 프로필 변경이 트리 캐시에 남지 않음
     public List<ArticleCommentListResponse> comments(Long articleId) {
+        List<ArticleCommentListResponse> tree = articleCommentTreeCache.get(articleId, () -> loadCommentTree(articleId));
+        Map<Long, Optional<MemberSummary>> authors = new HashMap<>();
+        return tree.stream()
+                .map(node -> withAuthor(node, authors))
+                .toList();
+    }
+
+    private ArticleCommentListResponse withAuthor(ArticleCommentListResponse node, Map<Long, Optional<MemberSummary>> authors) {
+        Optional<MemberSummary> author = node.getMemberId() == null
+                ? Optional.empty()
+                : authors.computeIfAbsent(node.getMemberId(), memberSummaryService::findById);
+        ArticleCommentListResponse copy = node.copyWithAuthor(
+                author.map(MemberSummary::getNickname).orElse(null),
+                author.map(MemberSummary::getImage).orElse(null));
+        node.getChildren().forEach(child -> copy.getChildren().add(withAuthor(child, authors)));
+        return copy;
+    }
+
+    private List<ArticleCommentListResponse> loadCommentTree(Long articleId) {
 
         QArticleComment qArticleComment = QArticleComment.articleComment;
 
@@ -66,18 +106,22 @@ public class ArticleCommentService {
                 jpaQueryFactory.selectFrom(qArticleComment)
                 .leftJoin(qArticleComment.parentId)
                 .fetchJoin()
+                // 작성자는 member_id 만 사용 -> member join 없음
                 .where(where)
                 .orderBy(
                         qArticleComment.parentId.articleCommentId.asc().nullsFirst(),
                         qArticleComment.createdAt.asc()
                 ).fetch();
 
-        List<ArticleCommentListResponse> result = new ArrayList<>();
+        // 1. dto 먼저 모두 등록 -> 2. 부모에 연결 (자식이 부모보다 먼저 와도 누락되지 않음)
         Map<Long, ArticleCommentListResponse> map = new HashMap<>();
-        articleComments.stream().forEach(c -> {
-            ArticleCommentListResponse dto = convertCommentToDto(c);
-            map.put(dto.getArticleCommentId(), dto);
-            if(c.getParentId() != null) map.get(c.getParentId().getArticleCommentId()).getChildren().add(dto);
+        articleComments.forEach(c -> map.put(c.getArticleCommentId(), convertCommentToDto(c)));
+
+        List<ArticleCommentListResponse> result = new ArrayList<>();
+        articleComments.forEach(c -> {
+            ArticleCommentListResponse dto = map.get(c.getArticleCommentId());
+            ArticleCommentListResponse parent = c.getParentId() == null ? null : map.get(c.getParentId().getArticleCommentId());
+            if (parent != null) parent.getChildren().add(dto);
             else result.add(dto);
         });
 
@@ -86,6 +130,75 @@ public class ArticleCommentService {
     }
 
 
+    /**
+     * 최상위 댓글 커서 페이지 + 댓글별 앞쪽 답글 replySize 개
+     * 쿼리 수는 페이지 크기와 무관 : 최상위 댓글 1 + 답글 id 1 + 답글 1 + 답글 수 1
+     */
+    public CursorSlice<ArticleCommentNodeResponse> getCommentPage(final Long articleId,
+                                                                  final LocalDateTime cursorCreatedAt,
+                                                                  final Long cursorId,
+                                                                  int size,
+                                                                  int replySize) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int replyLimit = Math.min(Math.max(replySize, 0), MAX_REPLY_PREVIEW_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        CursorSlice<ArticleCommentNodeResponse> slice = CursorSlice.of(
+                (cursorCreatedAt == null || cursorId == null)
+                        ? articleCommentRepository.findTopLevelFirstPage(articleId, limit)
+                        : articleCommentRepository.findTopLevelAfterCursor(articleId, cursorCreatedAt, cursorId, limit),
+                pageSize, ArticleCommentNodeResponse::getCreatedAt, ArticleCommentNodeResponse::getArticleCommentId);
+        List<ArticleCommentNodeResponse> comments = slice.getContent();
+
+        List<ArticleCommentNodeResponse> nodes = new ArrayList<>(comments);
+        if (!comments.isEmpty() && replyLimit > 0) {
+            List<Long> parentIds = comments.stream().map(ArticleCommentNodeResponse::getArticleCommentId).toList();
+            List<Long> replyIds = articleCommentRepository.findFirstReplyIdsByParentIds(parentIds, replyLimit);
+
+            if (!replyIds.isEmpty()) {
+                Map<Long, ArticleCommentNodeResponse> parents = comments.stream()
+                        .collect(Collectors.toMap(ArticleCommentNodeResponse::getArticleCommentId, Function.identity()));
+                for (ArticleCommentNodeResponse reply : articleCommentRepository.findNodesByIds(replyIds)) {
+                    parents.get(reply.getParentId()).getReplies().add(reply);
+                    nodes.add(reply);
+                }
+            }
+        }
+        fillReplyCounts(nodes);
+
+        return slice;
+    }
+
+    // 답글 커서 페이지 (답글의 답글은 replyCount 를 보고 같은 API 로 조회)
+    public CursorSlice<ArticleCommentNodeResponse> getReplyPage(final Long parentId,
+                                                                final LocalDateTime cursorCreatedAt,
+                                                                final Long cursorId,
+                                                                int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        CursorSlice<ArticleCommentNodeResponse> slice = CursorSlice.of(
+                (cursorCreatedAt == null || cursorId == null)
+                        ? articleCommentRepository.findRepliesFirstPage(parentId, limit)
+                        : articleCommentRepository.findRepliesAfterCursor(parentId, cursorCreatedAt, cursorId, limit),
+                pageSize, ArticleCommentNodeResponse::getCreatedAt, ArticleCommentNodeResponse::getArticleCommentId);
+        fillReplyCounts(slice.getContent());
+
+        return slice;
+    }
+
+    // 직속 답글 수를 한 번의 group by 로 채움
+    private void fillReplyCounts(List<ArticleCommentNodeResponse> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        Map<Long, ArticleCommentNodeResponse> byId = nodes.stream()
+                .collect(Collectors.toMap(ArticleCommentNodeResponse::getArticleCommentId, Function.identity()));
+        for (Object[] row : articleCommentRepository.countRepliesByParentIds(new ArrayList<>(byId.keySet()))) {
+            byId.get((Long) row[0]).setReplyCount((Long) row[1]);
+        }
+    }
+
     //댓글 작성
     @Transactional
     public ArticleComment create(ArticleCommentAddRequest dto) {
@@ -103,7 +216,11 @@ public class ArticleCommentService {
                     .orElseThrow(() -> new IllegalArgumentException("댓글 생성 실패" + "부모 댓글이 없습니다."));
         }
 
-        return articleCommentRepository.save(dto.toEntity(article,member, parentComment));
+        ArticleComment saved = articleCommentRepository.save(dto.toEntity(article,member, parentComment));
+        // 게시글 댓글 수 +1 (같은 트랜잭션, SQL 안에서 증가)
+        articleWriteRepository.addCountReviews(article.getArticleId(), 1);
+        eventPublisher.publishEvent(new ArticleCommentChangedEvent(article.getArticleId()));
+        return saved;
     }
 
     //    //댓글 수정
@@ -116,6 +233,7 @@ public class ArticleCommentService {
         target.setContent(dto.getContent());
         //변경 사항저장
         ArticleComment updatedComment = articleCommentRepository.save(target);
+        eventPublisher.publishEvent(new ArticleCommentChangedEvent(target.getArticle().getArticleId()));
         //DTO로 변환하여 반환
         return target;
     }
@@ -127,7 +245,33 @@ public class ArticleCommentService {
                 .orElseThrow(CommentNotFoundException::new);
 
         validateDeleteComment(articleComment,member);
+        // 답글도 orphanRemoval 로 함께 삭제되므로 삭제되는 댓글 수만큼 감소
+        int deletedCount = countWithReplies(articleComment);
         articleCommentRepository.delete(articleComment);
+        articleWriteRepository.addCountReviews(articleComment.getArticle().getArticleId(), -deletedCount);
+        eventPublisher.publishEvent(new ArticleCommentChangedEvent(articleComment.getArticle().getArticleId()));
+    }
+
+    private int countWithReplies(ArticleComment comment) {
+        int count = 1;
+        for (ArticleComment child : comment.getChildren()) {
+            count += countWithReplies(child);
+        }
+        return count;
+    }
+
+    // 게시글 목록용 댓글 수 일괄 조회 (게시글마다 따로 요청하지 않도록)
+    public Map<Long, Integer> getCommentCounts(List<Long> articleIds) {
+        if (articleIds == null || articleIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = articleIds.stream().distinct().limit(MAX_COUNT_IDS).toList();
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : articleWriteRepository.findCountReviewsByIds(ids)) {
+            counts.put((Long) row[0], row[1] == null ? 0 : (Integer) row[1]);
+        }
+        return counts;
     }
 
     private void validateDeleteComment(ArticleComment articleComment, Member member) {
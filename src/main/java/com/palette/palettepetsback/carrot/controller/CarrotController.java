@@ -1,6 +1,7 @@
 package com.palette.palettepetsback.carrot.controller;
 
 import com.palette.palettepetsback.Article.articleView.DTO.PageableDTO;
+import com.palette.palettepetsback.analytics.service.VisitorAnalyticsService;
 import com.palette.palettepetsback.carrot.domain.Carrot;
 import com.palette.palettepetsback.carrot.domain.CarrotImage;
 import com.palette.palettepetsback.carrot.dto.CarrotImageDTO;
@@ -8,8 +9,10 @@ import com.palette.palettepetsback.carrot.dto.CarrotRecentDTO;
 import com.palette.palettepetsback.carrot.dto.CarrotRequestDTO;
 import com.palette.palettepetsback.carrot.dto.CarrotResponseDTO;
 import com.palette.palettepetsback.carrot.service.CarrotService;
+import com.palette.palettepetsback.config.SingleTon.ViewerLimit;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +37,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CarrotController {
     private final CarrotService carrotService;
+    private final VisitorAnalyticsService visitorAnalyticsService;
 
     //글 & 이미지 등록
     @PostMapping("/post")
@@ -97,10 +101,13 @@ public class CarrotController {
 
     //상세 보기 & 조회수 증가
     @GetMapping("/list/{id}")
-    public ResponseEntity<CarrotResponseDTO> view(@PathVariable Long id) {
+    public ResponseEntity<CarrotResponseDTO> view(@PathVariable Long id,
+                                                  HttpServletRequest request) {
         CarrotResponseDTO carrot = carrotService.listDetail(id);
         //상세 보기를 누르면 자동으로 조회수 증가
         carrotService.updateView(id);
+        // 순 방문자 통계
+        visitorAnalyticsService.record(request, ViewerLimit.ContentType.CARROT, id);
 
         return ResponseEntity.ok().body(carrot);
     }
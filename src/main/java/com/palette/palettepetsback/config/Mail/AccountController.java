@@ -2,24 +2,29 @@ package com.palette.palettepetsback.config.Mail;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class AccountController {
     private final RegisterMail registerMail;
+
+    //인증 메일 발송 요청 -> 코드는 메일로만 전달
     @PostMapping("/login/mailConfirm")
-    public ResponseEntity<EmailResponseDTO> mailConfirm(@RequestBody @Valid EmailRequestDTO request) throws Exception {
-        System.out.println("이메일 : " + request.email);
-        String data = registerMail.sendEmail(request.email);
-        System.out.println("인증코드 : " + data);
-        if(data != null) {
-            return ResponseEntity.ok().body(new EmailResponseDTO(data));
-        }
+    public ResponseEntity<EmailResponseDTO> mailConfirm(@RequestBody @Valid EmailRequestDTO request) {
+        log.info("인증 메일 요청 : {}", request.email);
+        registerMail.sendEmail(request.email);
         return ResponseEntity.ok().body(new EmailResponseDTO(null));
     }
 
-}
\ No newline at end of file
+    //인증 코드 확인
+    @PostMapping("/login/mailVerify")
+    public ResponseEntity<Boolean> mailVerify(@RequestBody @Valid EmailVerifyRequestDTO request) {
+        return ResponseEntity.ok(registerMail.verifyCode(request.getEmail(), request.getCode()));
+    }
+}
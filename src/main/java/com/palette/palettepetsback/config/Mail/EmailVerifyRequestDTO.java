@@ -0,0 +1,16 @@
+package com.palette.palettepetsback.config.Mail;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailVerifyRequestDTO {
+    @NotNull
+    String email;
+    @NotNull
+    String code;
+}
@@ -1,6 +1,7 @@
 package com.palette.palettepetsback.config.Mail;
 
 import com.palette.palettepetsback.config.Storage.NaverConfiguration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
@@ -13,15 +14,29 @@ import java.util.Properties;
 @PropertySource("classpath:naver.properties")
 public class MailConfig {
 
+    // 로컬 / 테스트에서는 GreenMail 같은 SMTP 로 교체 (ex. mail.smtp.host=localhost, mail.smtp.port=3025, mail.smtp.ssl=false)
+    @Value("${mail.smtp.host:smtp.naver.com}")
+    private String host;
+
+    @Value("${mail.smtp.port:465}")
+    private int port;
+
+    @Value("${mail.smtp.ssl:true}")
+    private boolean ssl;
+
+    // SMTP 서버가 응답하지 않을 때 워커 스레드가 무한정 묶이지 않도록 (ms)
+    @Value("${mail.smtp.timeout-ms:5000}")
+    private String timeoutMs;
+
     @Bean
     public JavaMailSender javaMailService(NaverConfiguration naverConfiguration) {
         JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
 
-        javaMailSender.setHost("smtp.naver.com"); // 메인 도메인 서버 주소 => 정확히는 smtp 서버 주소
+        javaMailSender.setHost(host); // 메인 도메인 서버 주소 => 정확히는 smtp 서버 주소
         javaMailSender.setUsername(naverConfiguration.getUsername()); // 네이버 아이디
         javaMailSender.setPassword(naverConfiguration.getPassword()); // 네이버 비밀번호
 
-        javaMailSender.setPort(465); // 메일 인증서버 포트
+        javaMailSender.setPort(port); // 메일 인증서버 포트
 
         javaMailSender.setJavaMailProperties(getMailProperties()); // 메일 인증서버 정보 가져오기
 
@@ -32,10 +47,13 @@ public class MailConfig {
         Properties properties = new Properties();
         properties.setProperty("mail.transport.protocol", "smtp"); // 프로토콜 설정
         properties.setProperty("mail.smtp.auth", "true"); // smtp 인증
-        properties.setProperty("mail.smtp.starttls.enable", "true"); // smtp strattles 사용
+        properties.setProperty("mail.smtp.starttls.enable", String.valueOf(ssl)); // smtp strattles 사용
         properties.setProperty("mail.debug", "true"); // 디버그 사용
-        properties.setProperty("mail.smtp.ssl.trust","smtp.naver.com"); // ssl 인증 서버는 smtp.naver.com
-        properties.setProperty("mail.smtp.ssl.enable","true"); // ssl 사용
+        properties.setProperty("mail.smtp.ssl.trust", host); // ssl 인증 서버는 smtp.naver.com
+        properties.setProperty("mail.smtp.ssl.enable", String.valueOf(ssl)); // ssl 사용
+        properties.setProperty("mail.smtp.connectiontimeout", timeoutMs);
+        properties.setProperty("mail.smtp.timeout", timeoutMs);
+        properties.setProperty("mail.smtp.writetimeout", timeoutMs);
         return properties;
     }
 }
\ No newline at end of file
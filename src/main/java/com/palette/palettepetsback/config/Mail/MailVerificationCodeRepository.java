@@ -0,0 +1,56 @@
+package com.palette.palettepetsback.config.Mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원가입 메일 인증 코드 (redis)
+ * - mail:code:{email} -> HASH { code, attempts } (TTL 5분)
+ * 요청마다 이메일 단위로 저장 -> 동시에 가입해도 서로의 코드가 섞이지 않음
+ * 재발송 시 코드 / 시도 횟수 초기화, 5회 틀리면 코드 폐기
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailVerificationCodeRepository {
+
+    private static final String KEY_PREFIX = "mail:code:";
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 1 = 일치 (코드 삭제), 0 = 불일치, -1 = 코드 없음 (만료 / 미발송 / 시도 초과)
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "local code = redis.call('HGET', KEYS[1], 'code') " +
+            "if not code then return -1 end " +
+            "if code == ARGV[1] then redis.call('DEL', KEYS[1]) return 1 end " +
+            "if redis.call('HINCRBY', KEYS[1], 'attempts', 1) >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String email, String code) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(email)), code, String.valueOf(TTL.toSeconds()));
+    }
+
+    public boolean verify(String email, String code) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(email)), code, String.valueOf(MAX_ATTEMPTS));
+        return result != null && result == 1L;
+    }
+
+    private static String key(String email) {
+        return KEY_PREFIX + email.trim().toLowerCase();
+    }
+}
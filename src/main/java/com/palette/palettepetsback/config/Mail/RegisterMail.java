@@ -1,100 +1,49 @@
 package com.palette.palettepetsback.config.Mail;
 
-import com.palette.palettepetsback.member.entity.Member;
-import com.palette.palettepetsback.member.repository.MemberRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.palette.palettepetsback.config.Mail.outbox.MailOutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.UnsupportedEncodingException;
-import java.util.Optional;
-import java.util.Random;
+import java.security.SecureRandom;
 
+/**
+ * 메일 발송 요청
+ * - 발송은 outbox 에 저장만 하고 반환 -> SMTP 는 MailDispatcher 워커 풀에서 처리
+ * - 인증 코드는 요청마다 생성해서 redis 에 저장 (빈 필드에 두지 않음 -> 동시 요청 간 섞이지 않음)
+ */
 @Service
 @RequiredArgsConstructor
 public class RegisterMail {
 
-    //의존성 주입을 통해서 필요한 객체를 가져온다.
-    private final JavaMailSender emailSender;
-    private String authNum; //랜덤 인증 코드
+    private static final String VERIFY_TITLE = "CODEBOX 회원가입 인증 번호"; //제목
+    private static final char[] CODE_CHARS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
 
-    //랜덤 인증 코드 생성
-    public String createCode() {
-        Random random = new Random();
-        StringBuffer key = new StringBuffer();
-
-        for(int i=0;i<8;i++) {
-            int index = random.nextInt(3);
+    private final MailOutboxService mailOutboxService;
+    private final MailVerificationCodeRepository verificationCodeRepository;
 
-            switch (index) {
-                case 0 :
-                    key.append((char) ((int)random.nextInt(26) + 97));
-                    break;
-                case 1:
-                    key.append((char) ((int)random.nextInt(26) + 65));
-                    break;
-                case 2:
-                    key.append(random.nextInt(9));
-                    break;
-            }
+    //랜덤 인증 코드 생성 (영문 대소문자 + 숫자 8자리)
+    public String createCode() {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            key.append(CODE_CHARS[RANDOM.nextInt(CODE_CHARS.length)]);
         }
         return key.toString();
     }
 
-    //메일 양식 작성
-    public MimeMessage createEmailForm(String email) throws MessagingException, UnsupportedEncodingException {
-
-        createCode(); //인증 코드 생성
-        String setFrom = "springtest12345@naver.com"; //email-config에 설정한 자신의 이메일 주소(보내는 사람)
-        String toEmail = email; //받는 사람
-        String title = "CODEBOX 회원가입 인증 번호"; //제목
-
-        MimeMessage message = emailSender.createMimeMessage();
-        message.addRecipients(MimeMessage.RecipientType.TO, email); //보낼 이메일 설정
-        message.setSubject(title); //제목 설정
-        message.setFrom(setFrom); //보내는 이메일
-        message.setText(setContext(authNum), "utf-8", "html");
-
-        return message;
-    }
-    public MimeMessage createCSEmailForm(String email, String content) throws MessagingException, UnsupportedEncodingException {
-
-        createCode(); //인증 코드 생성
-        String setFrom = "springtest12345@naver.com"; //email-config에 설정한 자신의 이메일 주소(보내는 사람)
-        String toEmail = email; //받는 사람
-        String title = "쇼핑몰 idle 환불 문의에 대한 응답입니다."; //제목
-
-        MimeMessage message = emailSender.createMimeMessage();
-        message.addRecipients(MimeMessage.RecipientType.TO, email); //보낼 이메일 설정
-        message.setSubject(title); //제목 설정
-        message.setFrom(setFrom); //보내는 이메일
-        message.setText(content);
-
-        return message;
-    }
-
-    //실제 메일 전송
-    public String sendEmail(String toEmail) throws MessagingException, UnsupportedEncodingException {
-
-        //메일전송에 필요한 정보 설정
-        MimeMessage emailForm = createEmailForm(toEmail);
-        //실제 메일 전송
-        emailSender.send(emailForm);
-
-        return authNum; //인증 코드 반환
+    //인증 메일 발송 요청 -> 코드는 redis 에만 저장 (응답으로 내려주지 않음)
+    @Transactional
+    public void sendEmail(String toEmail) {
+        String code = createCode();
+        verificationCodeRepository.save(toEmail, code);
+        mailOutboxService.enqueue(toEmail, VERIFY_TITLE, setContext(code), true);
     }
 
-    //실제 메일 전송
-    public String sendEmail(String toEmail, String content) throws MessagingException, UnsupportedEncodingException {
-        //메일전송에 필요한 정보 설정
-        MimeMessage emailForm = createCSEmailForm(toEmail, content);
-        //실제 메일 전송
-        emailSender.send(emailForm);
-
-        return authNum; //인증 코드 반환
+    //인증 코드 확인 (일치하면 코드 폐기 -> 재사용 X)
+    public boolean verifyCode(String email, String code) {
+        return verificationCodeRepository.verify(email, code);
     }
 
     //타임리프를 이용한 context 설정
@@ -104,15 +53,9 @@ public class RegisterMail {
         return code;
     }
 
+    //호출한 쪽 트랜잭션과 함께 커밋되어야 발송 (ex. 임시 비밀번호 변경)
+    @Transactional
     public void mailSend(EmailResponseDTO.sendPwDto mailDto){
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(mailDto.getAddress());
-        message.setFrom("springtest12345@naver.com");
-        message.setSubject(mailDto.getTitle());
-        message.setText(mailDto.getMessage());
-
-        emailSender.send(message);
+        mailOutboxService.enqueue(mailDto.getAddress(), mailDto.getTitle(), mailDto.getMessage(), false);
     }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * outbox 메일 실제 발송 (mailExecutor 워커 스레드)
+ * - 점유(claim) 에 성공한 메일만 발송 -> 즉시 발송 / 폴링 / 여러 노드가 겹쳐도 한 번만 발송
+ * - 한 번에 가져온 메일은 send(MimeMessage...) 로 SMTP 연결 하나에서 모두 전송 (메일마다 연결 / 인증 X)
+ * - 실패 시 지수 백오프 (30초, 1분, 2분 ... 최대 30분) 로 재시도, MAX_ATTEMPTS 초과 시 FAILED
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    public static final String FROM = "springtest12345@naver.com";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository,
+                          JavaMailSender mailSender,
+                          MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.outbox.retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed").register(meterRegistry);
+    }
+
+    @Async("mailExecutor")
+    public void dispatch(List<Long> outboxIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = new ArrayList<>();
+        for (Long id : outboxIds) {
+            if (mailOutboxRepository.claim(id, now, now.plus(LEASE)) == 1) {
+                mailOutboxRepository.findById(id).ifPresent(claimed::add);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // MimeMessage 는 equals 를 재정의하지 않으므로 identity 기준으로 매핑
+        Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        for (MailOutbox outbox : claimed) {
+            try {
+                messages.put(toMimeMessage(outbox), outbox);
+            } catch (MessagingException e) {
+                fail(outbox, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(this::markSent);
+        } catch (MailSendException e) {
+            // 일부만 실패할 수 있음 -> 실패한 메일만 재시도
+            Map<Object, Exception> failed = e.getFailedMessages();
+            messages.forEach((message, outbox) -> {
+                if (failed.containsKey(message)) {
+                    fail(outbox, failed.get(message));
+                } else if (!failed.isEmpty()) {
+                    markSent(outbox);
+                } else {
+                    fail(outbox, e);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(outbox -> fail(outbox, e));
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(FROM);
+        helper.setTo(outbox.getToAddress());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody() == null ? "" : outbox.getBody(), outbox.isHtml());
+        return message;
+    }
+
+    private void markSent(MailOutbox outbox) {
+        mailOutboxRepository.markSent(outbox.getId(), LocalDateTime.now());
+        sentCounter.increment();
+    }
+
+    private void fail(MailOutbox outbox, Exception e) {
+        String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+
+        // claim 에서 이미 attempts + 1 된 상태
+        int attempts = outbox.getAttempts();
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("메일 발송 최종 실패, outboxId = {}, attempts = {}, error = {}", outbox.getId(), attempts, error);
+            mailOutboxRepository.markFailed(outbox.getId(), MailOutboxStatus.FAILED, LocalDateTime.now(), error);
+            failedCounter.increment();
+            return;
+        }
+        log.warn("메일 발송 실패 -> 재시도 예약, outboxId = {}, attempts = {}, error = {}", outbox.getId(), attempts, error);
+        mailOutboxRepository.markFailed(outbox.getId(), MailOutboxStatus.PENDING, LocalDateTime.now().plus(backoff(attempts)), error);
+        retryCounter.increment();
+    }
+
+    // 30초 * 2^(attempts-1), 최대 30분 + 최대 20% 지터 (동시에 실패한 메일이 한꺼번에 재시도하지 않도록)
+    private static Duration backoff(int attempts) {
+        long base = BASE_BACKOFF.toMillis() << Math.min(Math.max(attempts - 1, 0), 16);
+        long capped = Math.min(base, MAX_BACKOFF.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+}
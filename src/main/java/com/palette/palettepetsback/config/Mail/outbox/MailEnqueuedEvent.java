@@ -0,0 +1,13 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 저장 이벤트 -> 커밋 후 바로 발송 시도 (폴링 주기를 기다리지 않도록)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MailEnqueuedEvent {
+    private final Long outboxId;
+}
@@ -0,0 +1,71 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 outbox
+ * - 요청 트랜잭션 안에서 insert -> 커밋된 메일만 발송 (비밀번호 변경과 메일이 함께 커밋 / 롤백)
+ * - 발송 완료 후 본문은 지움 (임시 비밀번호 / 인증 코드가 DB 에 남지 않도록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_outbox", indexes = {
+        // 발송 대상 조회 (status, 다음 시도 시각)
+        @Index(name = "idx_mail_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_outbox_id")
+    private Long id;
+
+    @Column(name = "to_address", nullable = false)
+    private String toAddress;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "body")
+    private String body;
+
+    @Column(name = "html", nullable = false)
+    private boolean html;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public MailOutbox(String toAddress, String subject, String body, boolean html) {
+        this.toAddress = toAddress;
+        this.subject = subject;
+        this.body = body;
+        this.html = html;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 대상 (대기 중 + 점유 시간이 지난 발송 중) id
+    @Query("select m.id from MailOutbox m " +
+            "where m.status in (com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.PENDING, " +
+            "                   com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.SENDING) " +
+            "and m.nextAttemptAt <= :now " +
+            "order by m.nextAttemptAt asc")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송 점유 -> 1 이면 이 워커가 가져감 (여러 노드 / 즉시 발송과 폴링이 겹쳐도 한 번만 발송)
+     * @param leaseUntil 이 시각까지 끝나지 않으면 (노드 장애 등) 다시 발송 대상
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox m set m.status = com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.SENDING, " +
+            "m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "where m.id = :id " +
+            "and m.status in (com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.PENDING, " +
+            "                 com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.SENDING) " +
+            "and m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 완료 -> 본문 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox m set m.status = com.palette.palettepetsback.config.Mail.outbox.MailOutboxStatus.SENT, " +
+            "m.sentAt = :now, m.body = null, m.lastError = null " +
+            "where m.id = :id")
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 발송 실패 -> 재시도 대기 or 최종 실패
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update MailOutbox m set m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error " +
+            "where m.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") MailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+}
@@ -0,0 +1,25 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 요청 -> outbox 저장만 하고 바로 반환 (SMTP 대기 X)
+ * 호출한 쪽 트랜잭션에 참여 -> 커밋되어야 발송
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long enqueue(String toAddress, String subject, String body, boolean html) {
+        MailOutbox outbox = mailOutboxRepository.save(new MailOutbox(toAddress, subject, body, html));
+        eventPublisher.publishEvent(new MailEnqueuedEvent(outbox.getId()));
+        return outbox.getId();
+    }
+}
@@ -0,0 +1,8 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+public enum MailOutboxStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 가져감 (nextAttemptAt 까지 점유, 지나면 다시 발송 대상)
+    SENT,
+    FAILED   // 최대 재시도 초과
+}
@@ -0,0 +1,42 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox 발송 트리거
+ * - 커밋 직후 : 해당 메일 바로 발송 요청
+ * - 주기 폴링 : 재시도 대기 / 워커 큐가 가득 차서 버려진 / 노드 장애로 점유가 풀린 메일
+ * 실제 발송은 MailDispatcher (mailExecutor) 에서 -> 스케줄러 스레드가 SMTP 를 기다리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    private static final int POLL_BATCH_SIZE = 50;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDispatcher mailDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEnqueued(MailEnqueuedEvent event) {
+        mailDispatcher.dispatch(List.of(event.getOutboxId()));
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        List<Long> dueIds = mailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE));
+        if (!dueIds.isEmpty()) {
+            mailDispatcher.dispatch(dueIds);
+        }
+    }
+}
@@ -1,27 +1,24 @@
 package com.palette.palettepetsback.config.Redis;
 
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
-import com.palette.palettepetsback.config.jwt.redis.entity.RefreshToken;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/redis")
 @RequiredArgsConstructor
 public class RedisController {
     private final redisRepository redisRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    @GetMapping("/refresh/list")
-    public List<RefreshToken> refreshList() {
-        Iterable<RefreshToken> all = refreshTokenRepository.findAll();
-        return (List<RefreshToken>) all;
+    // 회원의 활성 리프레시 토큰 id (SHA-256) 목록 -> 원본 토큰은 노출하지 않음
+    @GetMapping("/refresh/{memberId}")
+    public Set<String> refreshList(@PathVariable("memberId") Long memberId) {
+        return refreshTokenStore.findTokenIds(memberId);
     }
 }
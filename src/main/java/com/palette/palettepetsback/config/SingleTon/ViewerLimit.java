@@ -1,33 +1,62 @@
 package com.palette.palettepetsback.config.SingleTon;
 
-import com.palette.palettepetsback.config.jwt.AuthInfoDto;
+import com.palette.palettepetsback.config.jwt.JWTUtil;
+import com.palette.palettepetsback.config.security.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
+/**
+ * 조회수 중복 방지
+ * - key : view:{컨텐츠 종류}:{컨텐츠 id}:{조회자} -> 게시글마다 따로 제한
+ * - SET NX EX 한 번으로 확인 + 저장 (hasKey -> set 두 번 왕복 / 경쟁 조건 없음)
+ * - 조회자 : 로그인 회원이면 memberId, 아니면 IP + User-Agent 해시 (세션 생성 X -> STATELESS JWT 와 호환)
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ViewerLimit {
 
+    private static final String KEY_PREFIX = "view:";
+    private static final Duration VIEW_LIMIT_TTL = Duration.ofMinutes(10);
+
     private final RedisTemplate<String, String> redisTemplate;
 
-    public boolean viewLimit(HttpServletRequest request) {
+    public enum ContentType {
+        ARTICLE,
+        HOT_SPOT,
+        CARROT
+    }
+
+    /**
+     * @return 조회수를 올려야 하면 true (제한 시간 내 첫 조회)
+     */
+    public boolean viewLimit(HttpServletRequest request, ContentType contentType, Long contentId) {
 
-        String sessionId = request.getSession().getId();
-        String key = "session_id_"+sessionId;
+        String key = KEY_PREFIX + contentType.name().toLowerCase() + ":" + contentId + ":" + resolveViewer(request);
 
-        if(!redisTemplate.hasKey(key)) {
-            System.out.println("======="+sessionId+"조회수 상승================");
-            redisTemplate.opsForValue().set(key, sessionId, 600, TimeUnit.SECONDS);
+        Boolean firstView = redisTemplate.opsForValue().setIfAbsent(key, "1", VIEW_LIMIT_TTL);
+        if (Boolean.TRUE.equals(firstView)) {
             return true;
         }
-        else{
-            System.out.println("=======이미 조회수를 올린 사람입니다.================");
-            return false;
+        log.debug("이미 조회수를 올린 조회자 - key = {}", key);
+        return false;
+    }
+
+    // 조회자 식별값 (세션 없이)
+    public static String resolveViewer(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "m:" + userDetails.getMember().getMemberId();
         }
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return "a:" + JWTUtil.hashToken(request.getRemoteAddr() + "|" + (userAgent == null ? "" : userAgent)).substring(0, 16);
     }
 }
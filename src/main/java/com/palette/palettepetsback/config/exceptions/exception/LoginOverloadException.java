@@ -0,0 +1,15 @@
+package com.palette.palettepetsback.config.exceptions.exception;
+
+/**
+ * 비밀번호 검증 풀이 포화 상태일 때 발생 -> 429 Too Many Requests
+ */
+public class LoginOverloadException extends RuntimeException {
+
+    public LoginOverloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public LoginOverloadException(String message) {
+        super(message);
+    }
+}
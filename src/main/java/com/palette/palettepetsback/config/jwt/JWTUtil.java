@@ -5,7 +5,12 @@ import com.palette.palettepetsback.config.security.CustomUserDetails;
 import com.palette.palettepetsback.member.entity.Member;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,7 +19,10 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 
 /**
@@ -23,6 +31,10 @@ import java.util.Map;
  *  - JWT 생성 메서드
  *  - JWT claims get 메서드
  *  - JWT 검증 메서드 : isExpired()
+ *  - JWT 한 번에 파싱 + 검증 메서드 : parseToken() -> 요청마다 여러 번 파싱하지 않도록 이걸 사용
+ *
+ *  파서 / 직렬화기는 생성 시 한 번만 만들어서 재사용 (JwtParser 는 불변 + thread-safe)
+ *  -> 호출마다 parser, deserializer, key resolver 를 새로 만들지 않음
  *
  *  JWT 기본 스펙 (2024.05.27)
  *  - memberId : pk값
@@ -39,10 +51,41 @@ import java.util.Map;
 @Component
 public class JWTUtil {
 
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    // 미리 만들어 둔 검증용 파서
+    private final JwtParser jwtParser;
+    // 토큰 발급 시 공유하는 JSON 직렬화기 (builder 마다 ServiceLoader 조회 방지)
+    private final Serializer<Map<String, ?>> jsonSerializer;
 
     public JWTUtil(@Value("${jwt.secret}") String secret) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jsonSerializer = new JacksonSerializer<>();
+        this.jwtParser = Jwts
+                .parser()
+                .verifyWith(secretKey) // 서버가 가진 시크릿 키로 검증 -> 서버에서 발급한 JWT이 맞는가 검증
+                .json(new JacksonDeserializer<>())
+                .build();
+    }
+
+    /**
+     * 토큰 발급 템플릿 -> 공유 직렬화기 + 서명키 + 발행 / 만료 시간 설정
+     * (JwtBuilder 는 상태를 가지므로 발급마다 새로 생성)
+     */
+    private JwtBuilder tokenBuilder(Long expiredMs) {
+        long now = System.currentTimeMillis();
+
+        return Jwts.builder()
+                .json(jsonSerializer)
+                .issuedAt(new Date(now)) // 현재 발행시간
+                .expiration(new Date(now + expiredMs)) // 만료 시간
+                .signWith(secretKey);
+    }
+
+    // 서명 + 만료 검증 후 payload 반환
+    private Claims parseClaims(String token) {
+        return jwtParser
+                .parseSignedClaims(token) // claims 검증
+                .getPayload();
     }
 
     /**
@@ -55,21 +98,15 @@ public class JWTUtil {
 
         claims.put("category", category);
 
-        return Jwts.builder()
+        return tokenBuilder(expiredMs)
                 .claims(claims)
-                .issuedAt(new Date(System.currentTimeMillis())) // 현재 발행시간
-                .expiration(new Date(System.currentTimeMillis() + expiredMs)) // 만료 시간
-                .signWith(secretKey)
                 .compact();
     }
     public String createJwt(String username, String role, Long expiredMs) {
 
-        return Jwts.builder()
+        return tokenBuilder(expiredMs)
                 .claim("username", username)
                 .claim("role", role)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
                 .compact();
     }
 
@@ -94,6 +131,31 @@ public class JWTUtil {
                 .build();
     }
 
+    /**
+     * JWT 파싱 + 서명 검증 + 만료 검증을 한 번에 수행
+     * @param token
+     * @return 검증된 claims
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 유효하지 않은 토큰
+     */
+    public JwtClaims parseToken(String token) {
+        return new JwtClaims(parseClaims(token));
+    }
+
+    /**
+     * 토큰 식별용 SHA-256 해시 (hex) -> 캐시 / 저장소 키로 원본 토큰 대신 사용
+     * @param token
+     * @return
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
     /**
      * JWT 검증 메서드 -> JWT 만료일 검증
      * @param token
@@ -104,12 +166,7 @@ public class JWTUtil {
         boolean isExpired = false;
 
         try {
-            isExpired = Jwts
-                    .parser()
-                    .verifyWith(secretKey) // 서버가 가진 시크릿 키로 검증 -> 서버에서 발급한 JWT이 맞는가 검증
-                    .build()
-                    .parseSignedClaims(token) // claims 검증
-                    .getPayload()
+            isExpired = parseClaims(token)
                     .getExpiration()
                     .before(new Date()); // 현재 날짜 기준 만료일 이전인지 검증
         } catch (ExpiredJwtException e) {
@@ -126,46 +183,22 @@ public class JWTUtil {
      * @return 회원 세션 정보들
      */
     public Claims getClaims(String token) {
-        
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseClaims(token);
     }
 
     public String getEmail(String token) {
 
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     public String getRole(String token) {
 
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public String getMemberNickname(String token) {
 
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("memberNickname", String.class);
+        return parseClaims(token).get("memberNickname", String.class);
     }
 
     /**
@@ -175,12 +208,6 @@ public class JWTUtil {
      */
     public String getCategory(String token) {
 
-        return Jwts
-                .parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
+        return parseClaims(token).get("category", String.class);
     }
 }
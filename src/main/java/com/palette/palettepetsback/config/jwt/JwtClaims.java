@@ -0,0 +1,45 @@
+package com.palette.palettepetsback.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 의 claims
+ * - JWTUtil.parseToken() 으로 한 번만 파싱 / 검증해서 필요한 값만 꺼내 둠
+ * - 불변 객체 -> VerifiedTokenCache 에 그대로 캐싱해서 재사용
+ */
+@Getter
+@ToString
+public class JwtClaims {
+
+    private final Long memberId;
+    private final String email;
+    private final String role;
+    private final String memberNickname;
+    private final String category;
+    private final Date expiration;
+
+    public JwtClaims(Claims claims) {
+        this.memberId = claims.get("memberId", Long.class);
+        this.email = claims.get("email", String.class);
+        this.role = claims.get("role", String.class);
+        this.memberNickname = claims.get("memberNickname", String.class);
+        this.category = claims.get("category", String.class);
+        this.expiration = claims.getExpiration();
+    }
+
+    public boolean isAccess() {
+        return "access".equals(category);
+    }
+
+    public boolean isRefresh() {
+        return "refresh".equals(category);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -0,0 +1,50 @@
+package com.palette.palettepetsback.config.jwt;
+
+import com.palette.palettepetsback.member.dto.MemberSummary;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 단위 로그인 회원 컨텍스트
+ *  - id / email / role 은 JWT claims 사용 -> DB 조회 없음
+ *  - 닉네임은 회원 요약 캐시에서 조회 (요청당 최초 1회)
+ *    claims 의 닉네임은 닉네임 변경 후 재로그인 전까지 이전 값이고, 재발급 토큰에는 없을 수 있음
+ *
+ *  요청 스레드에서만 사용할 것 (@Async, 이벤트 리스너 등 요청 밖에서는 request scope 가 없음)
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class MemberContext {
+
+    private final MemberSummaryService memberSummaryService;
+
+    private AuthInfoDto authInfo;
+    private MemberSummary summary;
+
+    public AuthInfoDto getAuthInfo() {
+        if (authInfo == null) {
+            authInfo = JWTUtil.getMemberInfo();
+        }
+        return authInfo;
+    }
+
+    public Long getMemberId() {
+        return getAuthInfo().getMemberId();
+    }
+
+    public String getMemberNickname() {
+        return getSummary().getNickname();
+    }
+
+    // 닉네임 / 프로필 이미지 -> 요청당 한 번만 조회 (로컬 -> redis -> DB)
+    public MemberSummary getSummary() {
+        if (summary == null) {
+            summary = memberSummaryService.findById(getMemberId())
+                    .orElseThrow(() -> new IllegalArgumentException("해당하는 회원이 없습니다."));
+        }
+        return summary;
+    }
+}
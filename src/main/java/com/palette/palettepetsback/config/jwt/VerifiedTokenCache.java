@@ -0,0 +1,84 @@
+package com.palette.palettepetsback.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.ExpiredJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 어세스 토큰 캐시
+ * - key : 토큰의 SHA-256 해시 (원본 토큰 문자열을 메모리에 보관하지 않음)
+ * - value : 검증된 JwtClaims
+ * - 크기 제한 LRU + 토큰 만료 시각에 맞춰 엔트리 만료 -> 같은 토큰으로 들어오는 요청은 서명 재검증 생략
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+    // 토큰 만료가 길어도 캐시에는 최대 10분만 보관
+    private static final long MAX_TTL_MS = 10 * 60 * 1000L;
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(JWTUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+                        return ttlNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+                        return ttlNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 검증 -> 캐시에 있으면 그대로 반환, 없으면 한 번 파싱 / 검증 후 캐싱
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 유효하지 않은 토큰
+     */
+    public JwtClaims verify(String token) {
+        String key = JWTUtil.hashToken(token);
+
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            cache.invalidate(key);
+        }
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(JWTUtil.hashToken(token));
+    }
+
+    private static long ttlNanos(JwtClaims claims) {
+        if (claims.getExpiration() == null) {
+            return TimeUnit.MILLISECONDS.toNanos(MAX_TTL_MS);
+        }
+        long remainMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(remainMs, MAX_TTL_MS)));
+    }
+}
@@ -1,7 +1,10 @@
 package com.palette.palettepetsback.config.jwt.filter;
 
 import com.palette.palettepetsback.config.jwt.JWTUtil;
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
+import com.palette.palettepetsback.config.jwt.JwtClaims;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -20,7 +23,7 @@ import java.io.IOException;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 굳이 doFilter 두번 감싸는 이유 -> HttpServletRequest 얘 써야하는데 GenericFilterBean 구현하면 ServletRequest를 파라미터로 써야해서
@@ -35,8 +38,8 @@ public class CustomLogoutFilter extends GenericFilterBean {
     // 실제 로그아웃 기능
     private void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
 
-        // 요청 경로 검증 - /logout 의 POST 요청
-        if (!request.getRequestURI().matches("^\\/logout$")) {
+        // 요청 경로 검증 - /logout 또는 /logout/all (모든 기기 로그아웃) 의 POST 요청
+        if (!request.getRequestURI().matches("^\\/logout(\\/all)?$")) {
             chain.doFilter(request, response);
             return;
         }
@@ -64,14 +67,22 @@ public class CustomLogoutFilter extends GenericFilterBean {
             response.getWriter().print("refresh token is null");
             return;
         }
-        // 만료 체크 -> 이미 로그아웃 필요 에러 반환 (REFRESH_TOKEN_EXPIRED_ERROR)
-        if (jwtUtil.isExpired(refresh)) {
+        // 파싱 + 검증 한 번만 수행
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(refresh);
+        } catch (ExpiredJwtException e) {
+            // 만료 체크 -> 이미 로그아웃 필요 에러 반환 (REFRESH_TOKEN_EXPIRED_ERROR)
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.getWriter().print("REFRESH_TOKEN_EXPIRED_ERROR");
             return;
+        } catch (JwtException | IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.getWriter().print("refresh token invalid");
+            return;
         }
         // 받은 토큰이 refresh 인지 확인
-        if (!jwtUtil.getCategory(refresh).equals("refresh")) {
+        if (!claims.isRefresh()) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             response.getWriter().print("refresh token invalid");
             return;
@@ -80,8 +91,13 @@ public class CustomLogoutFilter extends GenericFilterBean {
         /**
          * 로그아웃 로직 수행
          */
-        // todo RTR 저장소 토큰 제거
-        refreshTokenRepository.deleteByRefreshToken(refresh);
+        // RTR 저장소 토큰 제거
+        if (request.getRequestURI().endsWith("/all")) {
+            long revoked = refreshTokenStore.deleteAll(claims.getMemberId());
+            log.info("모든 기기 로그아웃 - 회원 {} 리프레시 토큰 {}개 폐기", claims.getMemberId(), revoked);
+        } else {
+            refreshTokenStore.delete(claims.getMemberId(), refresh);
+        }
 
         // refresh 쿠키 제거
         Cookie cookie = new Cookie("refresh", null);
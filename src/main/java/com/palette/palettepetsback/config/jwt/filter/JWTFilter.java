@@ -1,10 +1,12 @@
 package com.palette.palettepetsback.config.jwt.filter;
 
-import com.palette.palettepetsback.config.jwt.JWTUtil;
+import com.palette.palettepetsback.config.jwt.JwtClaims;
+import com.palette.palettepetsback.config.jwt.VerifiedTokenCache;
 import com.palette.palettepetsback.config.security.CustomUserDetails;
 import com.palette.palettepetsback.member.dto.Role;
 import com.palette.palettepetsback.member.entity.Member;
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,7 +26,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -43,15 +45,24 @@ public class JWTFilter extends OncePerRequestFilter {
         String token = authorization.split(" ")[1];
         log.info("JWT Token: {}", token);
 
-        // 만료 시간 검증 -> 아니면 예외 발생
-        if (jwtUtil.isExpired(token)) {
+        // 파싱 + 서명 검증 + 만료 검증 한 번에 수행 (검증된 토큰은 캐시에서 재사용)
+        JwtClaims claims;
+        try {
+            claims = verifiedTokenCache.verify(token);
+        } catch (ExpiredJwtException e) {
+            // 만료 시간 검증 -> 아니면 예외 발생
             response.getWriter().print("access token expired");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("JWT 검증 실패 = {}", e.getMessage());
+            response.getWriter().print("invalid access token");
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
         }
 
         // category 가 access 인지 확인 -> 아니면 refresh 이므로 예외 발생
-        if (!jwtUtil.getCategory(token).equals("access")) {
+        if (!claims.isAccess()) {
             response.getWriter().print("invalid access token");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
@@ -60,11 +71,10 @@ public class JWTFilter extends OncePerRequestFilter {
 
 
         // 클레임에서 저장할 정보 가져오기
-        Claims claims = jwtUtil.getClaims(token);
-        Long memberId = claims.get("memberId", Long.class);
-        String email = claims.get("email", String.class);
-        String role = claims.get("role", String.class);
-        String memberNickname = claims.get("memberNickname", String.class);
+        Long memberId = claims.getMemberId();
+        String email = claims.getEmail();
+        String role = claims.getRole();
+        String memberNickname = claims.getMemberNickname();
 
         // 회원 정보 넣기
         Member member = new Member(memberId, email, Role.valueOf(role), memberNickname);
@@ -2,15 +2,15 @@ package com.palette.palettepetsback.config.jwt.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.palette.palettepetsback.config.exceptions.exception.BasicLoginIOException;
+import com.palette.palettepetsback.config.exceptions.exception.LoginOverloadException;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
-import com.palette.palettepetsback.config.jwt.redis.entity.RefreshToken;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
 import com.palette.palettepetsback.config.security.CustomUserDetails;
+import com.palette.palettepetsback.config.security.PasswordHashingExecutor;
 import com.palette.palettepetsback.member.dto.LoginRequest;
 import com.palette.palettepetsback.member.entity.Member;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -19,6 +19,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
@@ -26,11 +28,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -41,8 +41,10 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
     private final ObjectMapper objectMapper;
-    // todo 추후 redis로 리프레시 토큰 저장소 사용 추가 필요
-    private final RefreshTokenRepository refreshTokenRepository;
+    // redis 리프레시 토큰 저장소
+    private final RefreshTokenStore refreshTokenStore;
+    // BCrypt 검증 전용 풀
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
@@ -59,24 +61,30 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             // JSON 으로 요청 : request -> username, password 추출
             try {
 
-                ObjectMapper objectMapper = new ObjectMapper();
-                ServletInputStream inputStream = request.getInputStream();
-                String loginBody = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-                loginRequest = objectMapper.readValue(loginBody, com.palette.palettepetsback.member.dto.LoginRequest.class);
-
-                String username = loginRequest.getUsername();
-                String password = loginRequest.getPassword();
-
-                // 인증 토큰 생성
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(username, password);
-                // 검증 정보 -> 검증 매니저에게 전달
-                return authenticationManager.authenticate(authenticationToken);
+                // 공유 ObjectMapper 로 입력 스트림을 바로 파싱 (body 를 String 으로 복사하지 않음)
+                loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
 
             } catch (IOException e) {
                 log.info("[LoginFilter] - 검증 중 IO 에러 발생, ", e);
                 throw new BasicLoginIOException(e.getMessage());
             }
+
+            String username = loginRequest.getUsername();
+            String password = loginRequest.getPassword();
+
+            // 인증 토큰 생성
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(username, password);
+
+            // 검증 정보 -> 검증 매니저에게 전달 (BCrypt 는 전용 해싱 풀에서 실행)
+            try {
+                return passwordHashingExecutor.execute(() -> authenticationManager.authenticate(authenticationToken));
+            } catch (LoginOverloadException e) {
+                // 해싱 풀 포화 -> 429 반환 후 필터 체인 종료 (null 반환 시 이후 처리 X)
+                log.info("[LoginFilter] - 로그인 요청 과다로 거절, {}", e.getMessage());
+                writeTooManyRequests(response);
+                return null;
+            }
         }
     }
 
@@ -103,17 +111,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 //        String refresh = jwtUtil.generateToken("refresh", claims, 60L); // 리프레시 토큰 - 테스트용 바로 만료
         String refresh = jwtUtil.generateToken("refresh", claims, 24 * 60 * 60 * 1000L); // 리프레시 토큰 - 24시간 만료 (1일~한달)
 
-        // todo RTR 사용시 -> 레디스 리프레시 토큰 저장소에 발급한 리프레시 토큰 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-                .refreshToken(refresh)
-                .email(member.getEmail())
-                .expiration(new Date(System.currentTimeMillis() + 24 * 60 * 60 * 1000).getTime())
-                .build();
-        RefreshToken saved = refreshTokenRepository.save(refreshToken);
-        log.info("refresh token 저장소 저장 = {}", saved);
-        if (saved.getRefreshToken() == null) {
-            throw new RuntimeException("redis 리프레시 토큰 저장소 저장 실패");
-        }
+        // RTR -> 레디스 리프레시 토큰 저장소에 발급한 리프레시 토큰 저장
+        refreshTokenStore.save(member.getMemberId(), refresh, 24 * 60 * 60 * 1000L);
 
         // response 설정
         // access 토큰 -> Authorization 헤더에 넣어서 반환
@@ -135,6 +134,19 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         response.getWriter().write(objectMapper.writeValueAsString(false));
     }
 
+    // 로그인 요청 과다 -> 429 Too Many Requests
+    private void writeTooManyRequests(HttpServletResponse response) {
+        try {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(objectMapper.writeValueAsString("too many login requests"));
+        } catch (IOException e) {
+            throw new BasicLoginIOException(e);
+        }
+    }
+
     // HttpOnly 쿠키 생성 메서드
     private Cookie createCookie(String key, String token) {
         Cookie cookie = new Cookie(key, token);
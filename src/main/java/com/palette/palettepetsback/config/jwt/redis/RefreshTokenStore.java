@@ -0,0 +1,133 @@
+package com.palette.palettepetsback.config.jwt.redis;
+
+import com.palette.palettepetsback.config.jwt.JWTUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 리프레시 토큰 저장소 (redis)
+ * - refresh:token:{tokenId}  -> memberId (TTL = 리프레시 토큰 만료)
+ * - refresh:member:{memberId} -> 회원이 가진 tokenId SET (TTL 갱신)
+ * - refresh:used:{tokenId}   -> 이미 교체된 토큰 표시 (재사용 탐지용)
+ * tokenId 는 원본 JWT 대신 SHA-256 해시 사용
+ *
+ * RTR 교체는 Lua 스크립트로 한 번에 수행 -> 이전 토큰 삭제 + 새 토큰 저장 + 재사용 탐지가 원자적으로 처리됨
+ * (@RedisHash + @Indexed 방식의 보조 인덱스 / 만료 후 남는 인덱스 엔트리 없음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String MEMBER_PREFIX = "refresh:member:";
+    private static final String USED_PREFIX = "refresh:used:";
+
+    // 저장 + 만료된 tokenId 정리
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+            "for _, id in ipairs(redis.call('SMEMBERS', KEYS[2])) do " +
+            "  if redis.call('EXISTS', ARGV[4] .. id) == 0 then redis.call('SREM', KEYS[2], id) end " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 교체 : 1 = 성공, 0 = 없는 토큰, -1 = 이미 교체된 토큰 재사용 -> 회원의 모든 토큰 폐기
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[3], ARGV[2]) " +
+            "  redis.call('SET', KEYS[4], ARGV[1], 'EX', ARGV[4]) " +
+            "  redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[4]) " +
+            "  redis.call('SADD', KEYS[3], ARGV[3]) " +
+            "  redis.call('EXPIRE', KEYS[3], ARGV[4]) " +
+            "  return 1 " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[4]) == 1 then " +
+            "  for _, id in ipairs(redis.call('SMEMBERS', KEYS[3])) do redis.call('DEL', ARGV[5] .. id) end " +
+            "  redis.call('DEL', KEYS[3]) " +
+            "  return -1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "local n = redis.call('DEL', KEYS[1]) " +
+            "redis.call('SREM', KEYS[2], ARGV[1]) " +
+            "return n",
+            Long.class);
+
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('SMEMBERS', KEYS[1]) " +
+            "for _, id in ipairs(ids) do redis.call('DEL', ARGV[1] .. id) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #ids",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum RotateResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+
+    // 로그인 시 발급한 리프레시 토큰 저장
+    public void save(Long memberId, String refreshToken, long ttlMs) {
+        String tokenId = JWTUtil.hashToken(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_PREFIX + tokenId, MEMBER_PREFIX + memberId),
+                String.valueOf(memberId), tokenId, String.valueOf(ttlMs / 1000), TOKEN_PREFIX);
+    }
+
+    public boolean exists(String refreshToken) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_PREFIX + JWTUtil.hashToken(refreshToken)));
+    }
+
+    // RTR : 이전 토큰 삭제 + 새 토큰 저장 (원자적)
+    public RotateResult rotate(Long memberId, String oldRefreshToken, String newRefreshToken, long ttlMs) {
+        String oldId = JWTUtil.hashToken(oldRefreshToken);
+        String newId = JWTUtil.hashToken(newRefreshToken);
+
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + oldId, TOKEN_PREFIX + newId, MEMBER_PREFIX + memberId, USED_PREFIX + oldId),
+                String.valueOf(memberId), oldId, newId, String.valueOf(ttlMs / 1000), TOKEN_PREFIX);
+
+        if (result == null || result == 0L) {
+            return RotateResult.NOT_FOUND;
+        }
+        if (result < 0) {
+            log.warn("이미 교체된 리프레시 토큰 재사용 탐지 -> 회원 {} 의 모든 리프레시 토큰 폐기", memberId);
+            return RotateResult.REUSED;
+        }
+        return RotateResult.ROTATED;
+    }
+
+    // 로그아웃 (현재 기기)
+    public void delete(Long memberId, String refreshToken) {
+        String tokenId = JWTUtil.hashToken(refreshToken);
+        redisTemplate.execute(DELETE_SCRIPT,
+                List.of(TOKEN_PREFIX + tokenId, MEMBER_PREFIX + memberId),
+                tokenId);
+    }
+
+    // 모든 기기에서 로그아웃 -> 폐기한 토큰 수 반환
+    public long deleteAll(Long memberId) {
+        Long deleted = redisTemplate.execute(DELETE_ALL_SCRIPT,
+                List.of(MEMBER_PREFIX + memberId),
+                TOKEN_PREFIX);
+        return deleted == null ? 0L : deleted;
+    }
+
+    // 회원의 활성 tokenId 목록 (원본 토큰이 아닌 해시)
+    public Set<String> findTokenIds(Long memberId) {
+        return redisTemplate.opsForSet().members(MEMBER_PREFIX + memberId);
+    }
+}
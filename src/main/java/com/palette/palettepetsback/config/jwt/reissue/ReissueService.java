@@ -1,9 +1,12 @@
 package com.palette.palettepetsback.config.jwt.reissue;
 
 import com.palette.palettepetsback.config.jwt.JWTUtil;
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
-import com.palette.palettepetsback.config.jwt.redis.entity.RefreshToken;
-import io.jsonwebtoken.Claims;
+import com.palette.palettepetsback.config.jwt.JwtClaims;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
+import com.palette.palettepetsback.member.dto.MemberSummary;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,7 +16,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,8 +30,9 @@ import java.util.Map;
 public class ReissueService {
     
     private final JWTUtil jwtUtil;
-    // todo : RTR 저장소 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // RTR 저장소
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberSummaryService memberSummaryService;
     
     public ResponseEntity<?> reissue(HttpServletRequest request, HttpServletResponse response) {
         
@@ -46,8 +49,12 @@ public class ReissueService {
         if (refresh == null) {
             return new ResponseEntity<>("refresh token is null", HttpStatus.BAD_REQUEST);
         }
-        // 만료 체크
-        if (jwtUtil.isExpired(refresh)) {
+        // 파싱 + 검증 한 번만 수행
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(refresh);
+        } catch (ExpiredJwtException e) {
+            // 만료 체크
             // 만료된 리프레시 토큰은 서버에서 제거
             Cookie cookie = new Cookie("refresh", null);
             cookie.setMaxAge(0);
@@ -55,32 +62,43 @@ public class ReissueService {
             response.addCookie(cookie);
             // REFRESH_TOKEN_EXPIRED_ERROR 에러를 프론트에 반환
             return new ResponseEntity<>("REFRESH_TOKEN_EXPIRED_ERROR", HttpStatus.BAD_REQUEST);
+        } catch (JwtException | IllegalArgumentException e) {
+            return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
         // refresh 토큰인지 category 검증
-        if (!jwtUtil.getCategory(refresh).equals("refresh")) {
+        if (!claims.isRefresh()) {
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
-        // 기존 리프레시 토큰이 토큰 저장소에 존재하는 지 검증 todo 추후 추가
-        Boolean isExist = refreshTokenRepository.existsByRefreshToken(refresh);
-        if (!isExist) {
-            return new ResponseEntity<>("refresh token does not exist", HttpStatus.BAD_REQUEST);
-        }
-        
         // 리프레시 토큰에서 새롭게 발행할 토큰의 정보들 추출
-        Claims claims = jwtUtil.getClaims(refresh);
         // map에 담기 -> JWT Claims 는 변경 불가하므로 category 추가가 불가능
         Map<String, Object> map = new HashMap<>();
-        map.put("memberId", claims.get("memberId", Long.class));
-        map.put("email", claims.get("email", String.class));
-        map.put("role", claims.get("role", String.class));
+        map.put("memberId", claims.getMemberId());
+        map.put("email", claims.getEmail());
+        map.put("role", claims.getRole());
+        // 로그인 토큰과 같은 claims 유지 + 닉네임 변경이 재발급 시점에 반영되도록 현재 닉네임 조회 (회원 요약 캐시)
+        map.put("memberNickname", memberSummaryService.findById(claims.getMemberId())
+                .map(MemberSummary::getNickname)
+                .orElse(claims.getMemberNickname()));
 
         // 어세스 & 리프레시 토큰 둘 다 재발급 -> RTR
         String newAccess = jwtUtil.generateToken("access", map, 10 * 60 * 1000L);
         String newRefresh = jwtUtil.generateToken("refresh", map, 24 * 60 * 60 * 1000L);
         
-        // todo 저장소 : 기존 리프레시 토큰 삭제 & 새로운 리프레시 토큰 저장
-        refreshTokenRepository.deleteByRefreshToken(refresh);
-        addRefreshTokenRepository(claims.get("email", String.class), newRefresh, 24 * 60 * 60 * 1000L);
+        // 저장소 : 기존 리프레시 토큰 삭제 & 새로운 리프레시 토큰 저장 (원자적)
+        // 기존 리프레시 토큰이 토큰 저장소에 존재하는 지도 여기서 같이 검증
+        RefreshTokenStore.RotateResult result =
+                refreshTokenStore.rotate(claims.getMemberId(), refresh, newRefresh, 24 * 60 * 60 * 1000L);
+        if (result == RefreshTokenStore.RotateResult.NOT_FOUND) {
+            return new ResponseEntity<>("refresh token does not exist", HttpStatus.BAD_REQUEST);
+        }
+        if (result == RefreshTokenStore.RotateResult.REUSED) {
+            // 이미 사용된 리프레시 토큰 -> 탈취 가능성, 해당 회원의 모든 리프레시 토큰이 폐기됨
+            Cookie cookie = new Cookie("refresh", null);
+            cookie.setMaxAge(0);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+            return new ResponseEntity<>("REFRESH_TOKEN_REUSED_ERROR", HttpStatus.BAD_REQUEST);
+        }
 
         // 어세스 토큰 & 리프레시 토큰 응답에 넣어 반환
         response.setHeader("Authorization", "Bearer " + newAccess);
@@ -105,19 +123,5 @@ public class ReissueService {
         return cookie;
     }
 
-    private void addRefreshTokenRepository(String email, String newRefresh, Long expiredMs) {
-        // 1. 현재날짜 + 유통 기한 더 한 날짜 구하기
-        // 2. 리프레시 토큰 엔티티 생성 및 저장
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .refreshToken(newRefresh)
-                .email(email)
-                .expiration(date.getTime())
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
-    }
-
     // todo : 근데 redis 이거 어디서 확인함? TEST 방법 시급함
 }
@@ -2,8 +2,7 @@ package com.palette.palettepetsback.config.oauth2;
 
 import com.palette.palettepetsback.config.SingleTon.Singleton;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
-import com.palette.palettepetsback.config.jwt.redis.entity.RefreshToken;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
 import com.palette.palettepetsback.member.dto.CustomOAuth2User;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -25,7 +24,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JWTUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
@@ -56,17 +55,8 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String access = jwtUtil.generateToken("access", claims, 60 * 60 * 1000L); // 어세스 토큰 - 1시간 만료 (12-24시간)
         String refresh = jwtUtil.generateToken("refresh", claims, 24 * 60 * 60 * 1000L); // 리프레시 토큰 - 24시간 만료 (1일~한달)
 
-        // todo RTR 사용시 -> 레디스 리프레시 토큰 저장소에 발급한 리프레시 토큰 저장
-        RefreshToken refreshToken = RefreshToken.builder()
-                .refreshToken(refresh)
-                .email(email)
-                .expiration(new Date(System.currentTimeMillis() + 24 * 60 * 60 * 1000).getTime())
-                .build();
-        RefreshToken saved = refreshTokenRepository.save(refreshToken);
-        log.info("refresh token 저장소 저장 = {}", saved);
-        if (saved.getRefreshToken() == null) {
-            throw new RuntimeException("redis 리프레시 토큰 저장소 저장 실패");
-        }
+        // RTR -> 레디스 리프레시 토큰 저장소에 발급한 리프레시 토큰 저장
+        refreshTokenStore.save(memberId, refresh, 24 * 60 * 60 * 1000L);
 
         // response 설정
         // access 토큰 -> Authorization 임시로 쿠키에 넣어서 반환 -> 프론트에서 바로 받아서 token 에 넣어주기
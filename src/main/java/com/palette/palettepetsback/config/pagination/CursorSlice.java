@@ -0,0 +1,73 @@
+package com.palette.palettepetsback.config.pagination;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (팔로우 / 피드 / 타임라인 / 댓글 / 알림 / 채팅 이력 공통)
+ * - pageSize + 1 개를 조회해서 (limit) 넘치면 hasNext, 마지막 항목으로 다음 커서를 만듦 (of)
+ * - 다음 페이지 요청 시 nextCursor (+ nextCursorCreatedAt) 를 그대로 넘기면 됨
+ * - (createdAt, id) 커서는 nextCursorCreatedAt 도 함께, id 커서만 쓰는 목록은 응답에서 생략
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+
+    private List<T> content;
+    private boolean hasNext;
+    private Long nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+    private LocalDateTime nextCursorCreatedAt;
+
+    // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+    public static PageRequest limit(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    /**
+     * @param fetched  pageSize + 1 개까지 조회한 목록
+     * @param cursor   다음 커서로 쓸 값 (마지막 항목 기준)
+     */
+    public static <T> CursorSlice<T> of(List<T> fetched, int pageSize, Function<T, Long> cursor) {
+        return of(fetched, pageSize, item -> null, cursor);
+    }
+
+    // (createdAt, id) 커서
+    public static <T> CursorSlice<T> of(List<T> fetched, int pageSize,
+                                        Function<T, LocalDateTime> cursorCreatedAt, Function<T, Long> cursor) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<T> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+        T last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return new CursorSlice<>(
+                content,
+                hasNext,
+                last == null ? null : cursor.apply(last),
+                last == null ? null : cursorCreatedAt.apply(last));
+    }
+
+    public static <T> CursorSlice<T> empty() {
+        return new CursorSlice<>(List.of(), false, null, null);
+    }
+
+    // 커서는 그대로 두고 내용만 교체 (id 로 페이지를 자른 뒤 상세 조회하는 경우)
+    public <R> CursorSlice<R> withContent(List<R> content) {
+        return new CursorSlice<>(content, hasNext, nextCursor, nextCursorCreatedAt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.palette.palettepetsback.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인메모리 토큰 버킷 -> redis 장애 시 대체용
+ * 서버 인스턴스별로 따로 계산되므로 전체 허용량은 (인스턴스 수 x capacity) 까지 늘어날 수 있음
+ */
+@Component
+public class LocalRateLimiter {
+
+    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            // 가장 긴 충전 주기 동안 요청이 없으면 가득 찬 버킷과 같으므로 제거
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public RateLimitResult tryAcquire(RateLimitPolicy policy, String key) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(policy.getCapacity()));
+        return RateLimitResult.of(bucket.tryAcquire(policy, System.currentTimeMillis()));
+    }
+
+    private static class Bucket {
+        private double tokens;
+        private long lastRefillAt;
+
+        private Bucket(long capacity) {
+            this.tokens = capacity;
+            this.lastRefillAt = System.currentTimeMillis();
+        }
+
+        // 0 = 허용, 양수 = 재시도까지 남은 ms
+        private synchronized long tryAcquire(RateLimitPolicy policy, long now) {
+            double refillPerMs = policy.refillPerMs();
+            tokens = Math.min(policy.getCapacity(), tokens + (now - lastRefillAt) * refillPerMs);
+            lastRefillAt = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0L;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerMs);
+        }
+    }
+}
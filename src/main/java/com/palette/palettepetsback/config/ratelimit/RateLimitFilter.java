@@ -0,0 +1,108 @@
+package com.palette.palettepetsback.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palette.palettepetsback.config.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 인증 / 쓰기 요청 제한 필터
+ * - JWTFilter 다음, LoginFilter 이전에 위치 -> 로그인 회원 기준 제한 + /login 제한 모두 가능
+ * - 경로별 정책은 RULES 에 등록
+ * - 제한 초과 시 429 + Retry-After (초)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final List<Rule> RULES = List.of(
+            // 인증
+            new Rule(HttpMethod.POST, "/login", RateLimitPolicy.LOGIN),
+            new Rule(HttpMethod.POST, "/join", RateLimitPolicy.JOIN),
+            new Rule(HttpMethod.POST, "/reissue", RateLimitPolicy.REISSUE),
+            // SSE 연결
+            new Rule(HttpMethod.GET, "/connect", RateLimitPolicy.CONNECT),
+            // 게시글
+            new Rule(HttpMethod.POST, "/Post/article", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.PUT, "/articles/update/*", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.DELETE, "/Delete/*", RateLimitPolicy.WRITE),
+            // 댓글
+            new Rule(HttpMethod.POST, "/Post/comments", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.DELETE, "/comments/*", RateLimitPolicy.WRITE),
+            // 중고거래
+            new Rule(HttpMethod.POST, "/carrot/post", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.POST, "/carrot/update/*", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.DELETE, "/carrot/delete/*", RateLimitPolicy.WRITE),
+            // 피드
+            new Rule(HttpMethod.POST, "/feed", RateLimitPolicy.WRITE),
+            new Rule(HttpMethod.DELETE, "/feed/detail/*", RateLimitPolicy.WRITE)
+    );
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitPolicy policy = findPolicy(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitResult result = rateLimiter.tryAcquire(policy, resolveKey(policy, request));
+        if (result.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.info("[RateLimitFilter] 요청 제한 초과 - policy = {}, uri = {}", policy, request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((result.getRetryAfterMs() + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString("too many requests"));
+    }
+
+    private RateLimitPolicy findPolicy(HttpServletRequest request) {
+        for (Rule rule : RULES) {
+            if (rule.matcher().matches(request)) {
+                return rule.policy();
+            }
+        }
+        return null;
+    }
+
+    // 제한 단위 : 로그인 회원이면 memberId, 아니면 IP
+    private String resolveKey(RateLimitPolicy policy, HttpServletRequest request) {
+        if (policy.getKeyType() == RateLimitPolicy.KeyType.MEMBER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                return "member:" + userDetails.getMember().getMemberId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record Rule(AntPathRequestMatcher matcher, RateLimitPolicy policy) {
+        private Rule(HttpMethod method, String pattern, RateLimitPolicy policy) {
+            this(new AntPathRequestMatcher(pattern, method.name()), policy);
+        }
+    }
+}
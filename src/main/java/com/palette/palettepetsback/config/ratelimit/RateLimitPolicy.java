@@ -0,0 +1,38 @@
+package com.palette.palettepetsback.config.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 정책 (토큰 버킷)
+ * - capacity : 버킷 크기 = 순간적으로 허용되는 최대 요청 수
+ * - refillPeriod : 빈 버킷이 가득 차는 데 걸리는 시간 -> 초당 capacity / refillPeriod 만큼 충전
+ * - keyType : 제한 단위 (IP / 로그인 회원)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+
+    LOGIN(10, Duration.ofMinutes(1), KeyType.IP),
+    JOIN(5, Duration.ofMinutes(10), KeyType.IP),
+    REISSUE(30, Duration.ofMinutes(1), KeyType.IP),
+    CONNECT(10, Duration.ofMinutes(1), KeyType.MEMBER),
+    WRITE(20, Duration.ofMinutes(1), KeyType.MEMBER);
+
+    private final long capacity;
+    private final Duration refillPeriod;
+    private final KeyType keyType;
+
+    // ms 당 충전되는 토큰 수
+    public double refillPerMs() {
+        return (double) capacity / refillPeriod.toMillis();
+    }
+
+    public enum KeyType {
+        IP,
+        // 로그인하지 않은 요청은 IP 로 대체
+        MEMBER
+    }
+}
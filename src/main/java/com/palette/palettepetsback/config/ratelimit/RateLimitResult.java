@@ -0,0 +1,28 @@
+package com.palette.palettepetsback.config.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitResult {
+
+    private static final RateLimitResult ALLOWED = new RateLimitResult(true, 0L);
+
+    private final boolean allowed;
+    // 다음 토큰이 충전되기까지 남은 시간 (거절 시)
+    private final long retryAfterMs;
+
+    public static RateLimitResult allowed() {
+        return ALLOWED;
+    }
+
+    public static RateLimitResult rejected(long retryAfterMs) {
+        return new RateLimitResult(false, Math.max(retryAfterMs, 1L));
+    }
+
+    public static RateLimitResult of(long retryAfterMs) {
+        return retryAfterMs <= 0 ? allowed() : rejected(retryAfterMs);
+    }
+}
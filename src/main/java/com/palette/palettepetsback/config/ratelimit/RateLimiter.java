@@ -0,0 +1,77 @@
+package com.palette.palettepetsback.config.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 분산 요청 제한기 (redis 토큰 버킷)
+ * - rate:{policy}:{key} HASH (tokens, ts) 를 Lua 스크립트로 한 번에 충전 + 차감 -> 여러 서버에서도 원자적
+ * - 시간은 redis TIME 기준 -> 서버 간 시계 차이 영향 없음
+ * - redis 장애 시 LocalRateLimiter 로 대체 (요청을 막지는 않음)
+ *
+ * 메트릭 : rate.limit.requests {policy, result = allowed / rejected, source = redis / local}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    // 반환값 : 0 = 허용, 양수 = 다음 토큰까지 남은 ms
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local refillPerMs = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) " +
+            "local ts = tonumber(bucket[2]) " +
+            "if tokens == nil or ts == nil then tokens = capacity; ts = now end " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * refillPerMs) " +
+            "local retryAfter = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 " +
+            "else retryAfter = math.ceil((1 - tokens) / refillPerMs) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return retryAfter",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LocalRateLimiter localRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitResult tryAcquire(RateLimitPolicy policy, String key) {
+        String redisKey = KEY_PREFIX + policy.name().toLowerCase() + ":" + key;
+        RateLimitResult result;
+        String source = "redis";
+
+        try {
+            Long retryAfterMs = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(redisKey),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.refillPerMs()),
+                    String.valueOf(policy.getRefillPeriod().toMillis()));
+            result = RateLimitResult.of(retryAfterMs == null ? 0L : retryAfterMs);
+        } catch (DataAccessException e) {
+            log.warn("[RateLimiter] redis 사용 불가 -> 로컬 제한기로 대체, policy = {}, {}", policy, e.getMessage());
+            result = localRateLimiter.tryAcquire(policy, redisKey);
+            source = "local";
+        }
+
+        meterRegistry.counter("rate.limit.requests",
+                "policy", policy.name(),
+                "result", result.isAllowed() ? "allowed" : "rejected",
+                "source", source).increment();
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package com.palette.palettepetsback.config.scheduling;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 설정
+ * - 방문자 통계 일별 -> 주별 / 월별 병합 (VisitorAnalyticsService)
+ * - 채팅 메시지 DB flush (1초), 메일 outbox 폴링, 신고 집계 flush, 가입 중복 확인 Bloom filter 재생성
+ *
+ * 기본 스케줄러는 스레드 1개 -> Bloom filter 재생성 (회원 전체 조회) 같은 긴 작업이
+ * 채팅 flush / 메일 발송을 멈추지 않도록 풀로 실행
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
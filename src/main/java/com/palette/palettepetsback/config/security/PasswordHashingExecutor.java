@@ -0,0 +1,115 @@
+package com.palette.palettepetsback.config.security;
+
+import com.palette.palettepetsback.config.exceptions.exception.LoginOverloadException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 (BCrypt) 전용 스레드 풀
+ *  - BCrypt 는 CPU 를 오래 점유 -> 로그인 폭주 시 톰캣 요청 스레드 전체가 BCrypt 에 묶이는 것을 방지
+ *  - 풀 크기 / 대기 큐 모두 제한 -> 큐가 가득 차면 즉시 거절 (LoginOverloadException -> 429)
+ *  - 대기 시간이 timeout 을 넘으면 작업 취소 후 거절
+ *
+ *  메트릭 (actuator)
+ *  - login.hashing.queue : 큐 대기 시간
+ *  - login.hashing.execution : 실제 인증 (조회 + BCrypt) 시간
+ *  - login.hashing.rejected : 거절 횟수
+ *  - login.hashing.queue.size / login.hashing.active : 현재 큐 길이 / 실행 중 작업 수
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${login.hashing.pool-size:0}") int poolSize,
+                                   @Value("${login.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${login.hashing.timeout-ms:3000}") long timeoutMs) {
+        // 기본 : 코어 수의 절반 (나머지 코어는 일반 API 처리용으로 남겨둠)
+        int size = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                size, size,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+
+        this.queueTimer = Timer.builder("login.hashing.queue").register(meterRegistry);
+        this.executionTimer = Timer.builder("login.hashing.execution").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.hashing.rejected").register(meterRegistry);
+        Gauge.builder("login.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("login.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 해싱 풀에서 작업 실행 후 결과 대기
+     * @throws LoginOverloadException 큐 포화 / 대기 시간 초과
+     * 작업에서 발생한 RuntimeException (AuthenticationException 등) 은 그대로 전달
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[PasswordHashingExecutor] 해싱 큐 포화 - queue = {}, active = {}", executor.getQueue().size(), executor.getActiveCount());
+            throw new LoginOverloadException("login hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginOverloadException("login hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginOverloadException("login hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.palette.palettepetsback.config.jwt.filter.CustomLogoutFilter;
 import com.palette.palettepetsback.config.jwt.filter.JWTFilter;
 import com.palette.palettepetsback.config.jwt.JWTUtil;
+import com.palette.palettepetsback.config.jwt.VerifiedTokenCache;
 import com.palette.palettepetsback.config.jwt.filter.LoginFilter;
-import com.palette.palettepetsback.config.jwt.redis.RefreshTokenRepository;
+import com.palette.palettepetsback.config.jwt.redis.RefreshTokenStore;
 import com.palette.palettepetsback.config.oauth2.FailureHandler;
+import com.palette.palettepetsback.config.ratelimit.RateLimitFilter;
+import com.palette.palettepetsback.config.ratelimit.RateLimiter;
 import com.palette.palettepetsback.config.oauth2.CustomSuccessHandler;
 import com.palette.palettepetsback.config.security.handlers.CustomAccessDeniedHandler;
 import com.palette.palettepetsback.config.security.handlers.CustomAuthenticationEntryPoint;
@@ -41,12 +44,15 @@ import java.util.Collections;
 public class SecurityConfig {
 
     private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final ObjectMapper objectMapper;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RateLimiter rateLimiter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final FailureHandler failureHandler;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -93,9 +99,13 @@ public class SecurityConfig {
                                 .requestMatchers("/sse/**").permitAll()
                                 // PET 인가
                                 .requestMatchers("/pet/**").hasAnyRole(Role.USER.name(), Role.ADMIN.name())
+                                // 관리자 (통계 / 신고 숨김 검토)
+                                .requestMatchers("/api/admin/**").hasRole(Role.ADMIN.name())
                                 // 알림 관련
                                 .requestMatchers("/connect").permitAll()
                                 .requestMatchers("/api/issues/**").permitAll()
+                                // 채팅 웹소켓 (인증은 STOMP CONNECT 에서)
+                                .requestMatchers("/ws/**").permitAll()
 //                                .anyRequest().permitAll()
                                 // 댓글 관련
                                 .requestMatchers("/Get/comments/**").permitAll()
@@ -104,11 +114,13 @@ public class SecurityConfig {
                 );
         // jwt 관련 필터들 적용 - 로그인 / username&password 인증 / 로그아웃 필터
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class)
+                .addFilterBefore(new JWTFilter(verifiedTokenCache), LoginFilter.class)
+                // 요청 제한 : JWTFilter 다음 (회원 기준 제한), LoginFilter 이전 (/login 제한)
+                .addFilterBefore(new RateLimitFilter(rateLimiter, objectMapper), LoginFilter.class)
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration),
-                                jwtUtil, objectMapper, refreshTokenRepository),
+                                jwtUtil, objectMapper, refreshTokenStore, passwordHashingExecutor),
                         UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore), LogoutFilter.class);
 //        // 세션 매니저 설정 - STATELESS (JWT 사용을 위한 무상태 설정)
         http
                 .sessionManagement(session -> session
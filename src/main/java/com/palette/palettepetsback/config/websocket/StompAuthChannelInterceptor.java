@@ -0,0 +1,156 @@
+package com.palette.palettepetsback.config.websocket;
+
+import com.palette.palettepetsback.Chat.Service.ChatRoomMembership;
+import com.palette.palettepetsback.config.jwt.JwtClaims;
+import com.palette.palettepetsback.config.jwt.VerifiedTokenCache;
+import com.palette.palettepetsback.config.security.CustomUserDetails;
+import com.palette.palettepetsback.member.dto.Role;
+import com.palette.palettepetsback.member.entity.Member;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP CONNECT 시 한 번만 JWT 검증 -> 세션 user 로 등록
+ * - 이후 SEND / SUBSCRIBE 프레임은 세션에 등록된 user 를 그대로 사용 (프레임마다 재검증 X)
+ * - 검증은 JWTFilter 와 같은 VerifiedTokenCache 사용
+ * - SEND 는 /pub (애플리케이션 prefix) 로만 허용 -> 브로커 목적지 (/sub, /queue) 로 직접 보내서 컨트롤러를 우회하는 위조 메시지 차단
+ * - SUBSCRIBE 는 기본 거부, 아래 두 목적지만 허용 (simple broker 는 구독 목적지를 ant 패턴으로 매칭 -> /sub/** 같은 구독 차단)
+ *   - /sub/chat/{roomId} : roomId 가 UUID 형식이고 채팅방 참여자일 때만 (확인된 채팅방은 세션에 기록 -> 같은 채팅방 재구독 시 조회 X)
+ *   - /user/queue/errors : 개인 에러 (user destination -> 세션별 목적지로 변환됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String APP_DESTINATION_PREFIX = "/pub/";
+    private static final String CHAT_SUBSCRIBE_PREFIX = "/sub/chat/";
+    private static final String USER_ERRORS_DESTINATION = "/user/queue/errors";
+    // 세션 속성 : 구독이 허용된 채팅방 id
+    private static final String ALLOWED_ROOMS_ATTR = "chat.allowedRooms";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ChatRoomMembership chatRoomMembership;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if ((StompCommand.SEND.equals(accessor.getCommand()) || StompCommand.SUBSCRIBE.equals(accessor.getCommand()))
+                && accessor.getUser() == null) {
+            throw new MessageDeliveryException("인증되지 않은 연결입니다.");
+        }
+
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            String destination = accessor.getDestination();
+            if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+                log.info("브로커 목적지로 직접 SEND 거부, destination = {}", destination);
+                throw new MessageDeliveryException("허용되지 않은 목적지입니다.");
+            }
+        }
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSubscribe(accessor);
+        }
+        return message;
+    }
+
+    private void checkSubscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (USER_ERRORS_DESTINATION.equals(destination)) {
+            return;
+        }
+        String roomId = chatRoomId(destination);
+        if (roomId == null) {
+            log.info("허용되지 않은 구독 거부, destination = {}", destination);
+            throw new MessageDeliveryException("허용되지 않은 목적지입니다.");
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Set<String> allowedRooms = allowedRooms(sessionAttributes);
+        if (allowedRooms != null && allowedRooms.contains(roomId)) {
+            return;
+        }
+
+        Long memberId = memberId(accessor.getUser());
+        if (memberId == null || !chatRoomMembership.isParticipant(roomId, memberId)) {
+            log.info("채팅방 구독 거부, memberId = {}, destination = {}", memberId, destination);
+            throw new MessageDeliveryException("채팅방 참여자가 아닙니다.");
+        }
+        if (allowedRooms != null) {
+            allowedRooms.add(roomId);
+        }
+    }
+
+    // /sub/chat/{uuid} 만 허용 -> 패턴 문자 (*, ?, {}) 나 하위 경로가 섞이면 UUID 변환에서 걸러짐
+    private static String chatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_SUBSCRIBE_PREFIX)) {
+            return null;
+        }
+        String roomId = destination.substring(CHAT_SUBSCRIBE_PREFIX.length());
+        try {
+            return UUID.fromString(roomId).toString().equals(roomId) ? roomId : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> allowedRooms(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        return (Set<String>) sessionAttributes.computeIfAbsent(ALLOWED_ROOMS_ATTR, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    private static Long memberId(Principal user) {
+        if (user instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getMember().getMemberId();
+        }
+        return null;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new MessageDeliveryException("access token 이 없습니다.");
+        }
+
+        JwtClaims claims;
+        try {
+            claims = verifiedTokenCache.verify(authorization.substring("Bearer ".length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("STOMP JWT 검증 실패 = {}", e.getMessage());
+            throw new MessageDeliveryException("invalid access token");
+        }
+        if (!claims.isAccess()) {
+            throw new MessageDeliveryException("invalid access token");
+        }
+
+        Member member = new Member(claims.getMemberId(), claims.getEmail(), Role.valueOf(claims.getRole()), claims.getMemberNickname());
+        CustomUserDetails userDetails = CustomUserDetails.builder()
+                .member(member)
+                .build();
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
@@ -0,0 +1,42 @@
+package com.palette.palettepetsback.config.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 채팅용 STOMP / WebSocket 설정
+ * - 연결 : /ws/chat
+ * - 발행 : /pub/chat/{roomId} -> ChatMessageController
+ * - 구독 : /sub/chat/{roomId} (채팅방 메시지), /user/queue/errors (개인 에러) -> 이 외 구독은 거부 (StompAuthChannelInterceptor)
+ * - 인증 : CONNECT 프레임의 Authorization 헤더 (StompAuthChannelInterceptor)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/chat")
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/sub", "/queue");
+        // 클라이언트 SEND 는 /pub 만 허용 (StompAuthChannelInterceptor) -> /sub, /queue 는 서버만 발행
+        registry.setApplicationDestinationPrefixes("/pub");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
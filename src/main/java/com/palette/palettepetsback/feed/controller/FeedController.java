@@ -2,10 +2,13 @@ package com.palette.palettepetsback.feed.controller;
 
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.feed.dto.FeedListResponse;
 import com.palette.palettepetsback.feed.dto.FeedRequest;
+import com.palette.palettepetsback.feed.dto.TimelineFeedResponse;
 import com.palette.palettepetsback.feed.entity.Feed;
 import com.palette.palettepetsback.feed.service.FeedService;
+import com.palette.palettepetsback.feed.service.FeedTimelineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import java.util.List;
 public class FeedController {
 
     private final FeedService feedService;
+    private final FeedTimelineService feedTimelineService;
 
     @PostMapping("/feed")
     public ResponseEntity<?> savefeed(@RequestPart(name="request") @Valid FeedRequest feedRequest,
@@ -46,6 +50,14 @@ public class FeedController {
         return ResponseEntity.ok(feedImg);
     }
 
+    // 프로필 피드 그리드 커서 페이지 ex) /feed/{nickname}/page?cursor=350&size=30
+    @GetMapping("/feed/{nickname}/page")
+    public ResponseEntity<CursorSlice<FeedListResponse>> getFeedGrid(@PathVariable("nickname") String nickname,
+                                                                     @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                     @RequestParam(value = "size", defaultValue = "30") int size) {
+        return ResponseEntity.ok(feedService.getFeedGrid(nickname, cursor, size));
+    }
+
     @GetMapping("/feed/detail/{feedId}")
     public ResponseEntity<?> getFeedDetail(@PathVariable("feedId") Long feedId,
                                            @JwtAuth AuthInfoDto authInfoDto) {
@@ -62,6 +74,14 @@ public class FeedController {
         return ResponseEntity.ok("피드가 삭제 되었습니다.");
     }
 
+    // 홈 타임라인 : 내가 팔로우하는 회원들의 피드 (최신순, feedId 커서)
+    @GetMapping("/api/timeline")
+    public ResponseEntity<CursorSlice<TimelineFeedResponse>> getHomeTimeline(@JwtAuth AuthInfoDto authInfoDto,
+                                                                             @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(feedTimelineService.getHomeTimeline(authInfoDto.getMemberId(), cursor, size));
+    }
+
     @GetMapping("/feed/friend")
     public ResponseEntity<?> getFriendFeed (@JwtAuth AuthInfoDto authInfoDto){
         String nickname=authInfoDto.getMemberNickname();
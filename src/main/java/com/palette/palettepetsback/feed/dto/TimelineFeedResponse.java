@@ -0,0 +1,24 @@
+package com.palette.palettepetsback.feed.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 타임라인 피드 (작성자 정보 + 대표 이미지 projection)
+ */
+@Data
+@AllArgsConstructor
+public class TimelineFeedResponse {
+    private Long feedId;
+    private Long memberId;
+    private String memberNickname;
+    private String memberImage;
+    private String text;
+    // 대표 이미지 (가장 먼저 올린 사진), 없으면 null
+    private String img;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime time;
+}
@@ -11,7 +11,10 @@ import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "feed")
+@Table(name = "feed", indexes = {
+        // 프로필 피드 그리드 커서 페이지 조회용
+        @Index(name = "idx_feed_member_feed", columnList = "member_id, feed_id")
+})
 public class Feed {
 
     @Id
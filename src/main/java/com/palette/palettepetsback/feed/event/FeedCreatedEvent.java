@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.feed.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 피드 작성 -> 커밋 후 팔로워 타임라인에 fan-out
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class FeedCreatedEvent {
+
+    private final Long feedId;
+    private final Long authorId;
+}
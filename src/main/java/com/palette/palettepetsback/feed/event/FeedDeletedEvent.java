@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.feed.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 피드 삭제 -> 커밋 후 작성자 피드 수 감소
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class FeedDeletedEvent {
+
+    private final Long feedId;
+    private final Long authorId;
+}
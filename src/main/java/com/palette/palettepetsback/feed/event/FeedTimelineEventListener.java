@@ -0,0 +1,38 @@
+package com.palette.palettepetsback.feed.event;
+
+import com.palette.palettepetsback.feed.service.FeedTimelineService;
+import com.palette.palettepetsback.member.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineEventListener {
+
+    private final FeedTimelineService feedTimelineService;
+
+    // 피드 작성 커밋 후, 요청 스레드와 분리된 스레드에서 팔로워 타임라인에 추가
+    @Async("timelineExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFeedCreated(FeedCreatedEvent event) {
+        try {
+            feedTimelineService.fanOut(event.getFeedId(), event.getAuthorId());
+        } catch (Exception e) {
+            log.error("Failed to fan out feed, event = {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        try {
+            feedTimelineService.evict(event.getMemberId());
+        } catch (Exception e) {
+            log.error("Failed to evict timeline, event = {}", event, e);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.palette.palettepetsback.feed.repository;
 
+import com.palette.palettepetsback.feed.dto.FeedListResponse;
+import com.palette.palettepetsback.feed.dto.TimelineFeedResponse;
 import com.palette.palettepetsback.feed.entity.Feed;
 import com.palette.palettepetsback.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,69 @@ public interface FeedRepository extends JpaRepository<Feed,Long> {
     List<Feed> findByMemberId(Member memberId);
 
     Feed findByFeedId(Long feedId);
+
+    @Query("select count(fd) from Feed fd where fd.memberId.memberId = :memberId")
+    long countByMemberId(@Param("memberId") Long memberId);
+
+    // memberId 가 팔로우하는 회원들의 최신 피드 id -> 타임라인 재생성용 (fan-out-on-read)
+    @Query("select fd.feedId from Feed fd " +
+            "where fd.memberId.memberId in (" +
+            "   select f.followerId.memberId from Follow f where f.followingId.memberId = :memberId" +
+            ") or fd.memberId.memberId = :memberId " +
+            "order by fd.feedId desc")
+    List<Long> findTimelineFeedIds(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 타임라인 재생성 이후 놓친 피드 확인용 (afterFeedId 보다 최신)
+    @Query("select fd.feedId from Feed fd " +
+            "where (fd.memberId.memberId in (" +
+            "   select f.followerId.memberId from Follow f where f.followingId.memberId = :memberId" +
+            ") or fd.memberId.memberId = :memberId) and fd.feedId > :afterFeedId " +
+            "order by fd.feedId desc")
+    List<Long> findTimelineFeedIdsAfter(@Param("memberId") Long memberId,
+                                        @Param("afterFeedId") Long afterFeedId,
+                                        Pageable pageable);
+
+    // 작성자 목록의 피드 중 cursor 이전 피드 id (팔로워가 많은 회원은 fan-out 대신 읽을 때 조회)
+    @Query("select fd.feedId from Feed fd " +
+            "where fd.memberId.memberId in :authorIds and fd.feedId < :cursorFeedId " +
+            "order by fd.feedId desc")
+    List<Long> findFeedIdsByAuthorsBefore(@Param("authorIds") Collection<Long> authorIds,
+                                          @Param("cursorFeedId") Long cursorFeedId,
+                                          Pageable pageable);
+
+    // 타임라인 피드 projection -> 대표 이미지는 가장 작은 feed_img_id 한 장만
+    @Query("select new com.palette.palettepetsback.feed.dto.TimelineFeedResponse(" +
+            "   fd.feedId, m.memberId, m.memberNickname, m.memberImage, fd.feedContent, " +
+            "   (select i.feedImg from FeedImg i where i.feedImgId = " +
+            "       (select min(i2.feedImgId) from FeedImg i2 where i2.feed = fd)), " +
+            "   fd.time" +
+            ") " +
+            "from Feed fd join fd.memberId m " +
+            "where fd.feedId in :feedIds " +
+            "order by fd.feedId desc")
+    List<TimelineFeedResponse> findTimelineFeeds(@Param("feedIds") Collection<Long> feedIds);
+
+    // 프로필 피드 그리드 (feedId, 대표 이미지) -> idx_feed_member_feed 역순으로 읽고 limit 에서 멈춤
+    // 대표 이미지는 가장 먼저 올린 한 장, 이미지 없는 피드는 null
+    @Query("select new com.palette.palettepetsback.feed.dto.FeedListResponse(" +
+            "   fd.feedId, " +
+            "   (select i.feedImg from FeedImg i where i.feedImgId = " +
+            "       (select min(i2.feedImgId) from FeedImg i2 where i2.feed = fd))" +
+            ") " +
+            "from Feed fd " +
+            "where fd.memberId.memberId = :memberId " +
+            "order by fd.feedId desc")
+    List<FeedListResponse> findGridFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select new com.palette.palettepetsback.feed.dto.FeedListResponse(" +
+            "   fd.feedId, " +
+            "   (select i.feedImg from FeedImg i where i.feedImgId = " +
+            "       (select min(i2.feedImgId) from FeedImg i2 where i2.feed = fd))" +
+            ") " +
+            "from Feed fd " +
+            "where fd.memberId.memberId = :memberId and fd.feedId < :cursorFeedId " +
+            "order by fd.feedId desc")
+    List<FeedListResponse> findGridBeforeCursor(@Param("memberId") Long memberId,
+                                                @Param("cursorFeedId") Long cursorFeedId,
+                                                Pageable pageable);
 }
@@ -0,0 +1,124 @@
+package com.palette.palettepetsback.feed.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 홈 타임라인 (redis sorted set)
+ * - timeline:{memberId} -> member = feedId, score = feedId (최신순 = score 내림차순)
+ * - 최대 MAX_SIZE 개만 유지, 빈 타임라인은 "0" 표시 멤버로 구분 (키가 없으면 아직 만들어지지 않은 타임라인)
+ * - timeline:celebrities -> 팔로워가 많아 fan-out 하지 않는 회원 id SET (읽을 때 DB 에서 합침)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedTimelineRepository {
+
+    public static final int MAX_SIZE = 800;
+
+    private static final String KEY_PREFIX = "timeline:";
+    private static final String CELEBRITY_KEY = "timeline:celebrities";
+    private static final String EMPTY_MARKER = "0";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    // 이미 만들어진 타임라인에만 추가 -> 키가 없으면 다음 조회 시 DB 에서 전체를 다시 만듦
+    private static final RedisScript<Long> PUSH_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1)) " +
+            "return 1",
+            Long.class);
+
+    // 재생성 : 표시 멤버 + feedId 들을 한 번에 추가 -> 자르기 -> 만료 설정 (중간 상태가 보이지 않도록 한 스크립트로)
+    private static final RedisScript<Long> MERGE = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], 0, ARGV[3]) " +
+            "for i = 4, #ARGV do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i]) end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 1)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public boolean exists(Long memberId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(memberId)));
+    }
+
+    // 여러 회원의 타임라인에 피드 추가 (파이프라인)
+    public void push(Collection<Long> memberIds, Long feedId) {
+        String feed = String.valueOf(feedId);
+        String maxSize = String.valueOf(MAX_SIZE);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long memberId : memberIds) {
+                    ops.execute(PUSH_IF_EXISTS, List.of(key(memberId)), feed, maxSize);
+                }
+                return null;
+            }
+        });
+    }
+
+    // DB 에서 만든 최신 feedId 목록으로 타임라인 재생성
+    // 기존 키를 지우지 않고 합침 -> 먼저 만들어진 타임라인에 들어온 push 를 덮어쓰지 않음
+    public void rebuild(Long memberId, List<Long> feedIds) {
+        List<String> args = new ArrayList<>(feedIds.size() + 3);
+        args.add(String.valueOf(TTL.toSeconds()));
+        args.add(String.valueOf(MAX_SIZE));
+        args.add(EMPTY_MARKER);
+        feedIds.forEach(feedId -> args.add(String.valueOf(feedId)));
+
+        redisTemplate.execute(MERGE, List.of(key(memberId)), args.toArray());
+    }
+
+    // cursorFeedId 보다 오래된 피드 id (최신순), cursor 가 null 이면 처음부터
+    public List<Long> findBefore(Long memberId, Long cursorFeedId, int limit) {
+        double max = cursorFeedId == null ? Double.POSITIVE_INFINITY : cursorFeedId - 1;
+        Set<String> values = redisTemplate.opsForZSet().reverseRangeByScore(key(memberId), 1, max, 0, limit);
+
+        List<Long> feedIds = new ArrayList<>();
+        if (values != null) {
+            values.forEach(value -> feedIds.add(Long.valueOf(value)));
+        }
+        return feedIds;
+    }
+
+    public void evict(Long memberId) {
+        redisTemplate.delete(key(memberId));
+    }
+
+    public void markCelebrity(Long memberId, boolean celebrity) {
+        if (celebrity) {
+            redisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(memberId));
+        } else {
+            redisTemplate.opsForSet().remove(CELEBRITY_KEY, String.valueOf(memberId));
+        }
+    }
+
+    public Set<Long> findCelebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+        Set<Long> ids = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> ids.add(Long.valueOf(member)));
+        }
+        return ids;
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
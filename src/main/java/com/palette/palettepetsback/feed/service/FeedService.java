@@ -2,15 +2,24 @@ package com.palette.palettepetsback.feed.service;
 
 import com.palette.palettepetsback.config.SingleTon.Singleton;
 import com.palette.palettepetsback.config.Storage.NCPObjectStorageService;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.feed.dto.FeedListResponse;
 import com.palette.palettepetsback.feed.dto.FeedResponse;
+import com.palette.palettepetsback.feed.event.FeedCreatedEvent;
+import com.palette.palettepetsback.feed.event.FeedDeletedEvent;
 import com.palette.palettepetsback.feed.repository.FeedImgRepository;
 import com.palette.palettepetsback.feed.repository.FeedRepository;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.service.ReportModerationService;
 import com.palette.palettepetsback.feed.entity.Feed;
 import com.palette.palettepetsback.feed.entity.FeedImg;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,10 +32,15 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Transactional
 public class FeedService {
+    private static final int MAX_GRID_PAGE_SIZE = 60;
+
     private final NCPObjectStorageService objectStorageService;
     private final FeedRepository feedRepository;
     private final MemberRepository memberRepository;
     private final FeedImgRepository feedImgRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberSummaryService memberSummaryService;
+    private final ReportModerationService reportModerationService;
 
 
     public String fileUpload(MultipartFile file, String dirPath) {
@@ -38,7 +52,10 @@ public class FeedService {
         if (member.isPresent()) {
             Feed feed = new Feed();
             feed.saveFeed(feedContent, member.get());
-            return feedRepository.save(feed);
+            Feed saved = feedRepository.save(feed);
+            // 커밋 후 팔로워 타임라인에 추가
+            eventPublisher.publishEvent(new FeedCreatedEvent(saved.getFeedId(), memberId));
+            return saved;
         } else {
             throw new IllegalArgumentException("Member not found with id: " + memberId);
         }
@@ -52,25 +69,33 @@ public class FeedService {
 
 
 
-    //피드리스트
+    //피드리스트 (전체) : 그리드 projection 한 번으로 조회
+    @Transactional(readOnly = true)
     public List<FeedListResponse> getFeedList(String nickname) {
-        Optional<Member> member = memberRepository.findByMemberNickname(nickname);
-        if (member.isPresent()) {
-
-            List<Feed> feedList = feedRepository.findByMemberId(member.get());
-
-            List<FeedListResponse> list = new ArrayList<>();
-
-            for (Feed f : feedList) {
-                String img = f.getFeedImageList().get(0).getFeedImg(); //한 피드에 여러장이면 맨처음 올린 사진만보여줌
-                list.add(new FeedListResponse(f.getFeedId(),img));
-            }
+        return memberSummaryService.findIdByNickname(nickname)
+                // 신고 누적으로 자동 숨김된 회원의 피드는 노출 X
+                .filter(memberId -> !reportModerationService.isHidden(ReportTargetType.MEMBER, memberId))
+                .map(memberId -> feedRepository.findGridFirstPage(memberId, Pageable.unpaged()))
+                // 멤버를 찾을 수 없는 경우 빈 리스트 반환
+                .orElse(List.of());
+    }
 
-            return list;
-        } else {
-            // 멤버를 찾을 수 없는 경우 빈 리스트를 반환하거나 예외를 던질 수 있습니다.
-            return List.of();
+    //피드리스트 커서 페이지 (프로필 그리드)
+    @Transactional(readOnly = true)
+    public CursorSlice<FeedListResponse> getFeedGrid(String nickname, Long cursor, int size) {
+        Long memberId = memberSummaryService.findIdByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+        // 신고 누적으로 자동 숨김된 회원 -> 빈 페이지 (redis SISMEMBER 한 번)
+        if (reportModerationService.isHidden(ReportTargetType.MEMBER, memberId)) {
+            return CursorSlice.empty();
         }
+        int pageSize = Math.min(Math.max(size, 1), MAX_GRID_PAGE_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        List<FeedListResponse> feeds = cursor == null
+                ? feedRepository.findGridFirstPage(memberId, limit)
+                : feedRepository.findGridBeforeCursor(memberId, cursor, limit);
+        return CursorSlice.of(feeds, pageSize, FeedListResponse::getFeedId);
     }
 
     //피드상세
@@ -100,6 +125,7 @@ public class FeedService {
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 피드입니다."));
             if(feed.getMemberId().getMemberId().equals(memberId)){ //피드를 적은 사람과 피드를 열어본 사람이 같은 사람인지 판별
                 feedRepository.delete(feed);
+                eventPublisher.publishEvent(new FeedDeletedEvent(feedId, memberId));
             }else{
                 throw new IllegalArgumentException("피드 작성자가 아닌 사용자가 피드를 삭제하려고 합니다.");
             }
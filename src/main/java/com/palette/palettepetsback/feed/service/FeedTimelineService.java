@@ -0,0 +1,119 @@
+package com.palette.palettepetsback.feed.service;
+
+import com.palette.palettepetsback.config.pagination.CursorSlice;
+import com.palette.palettepetsback.feed.dto.TimelineFeedResponse;
+import com.palette.palettepetsback.feed.repository.FeedRepository;
+import com.palette.palettepetsback.feed.repository.FeedTimelineRepository;
+import com.palette.palettepetsback.member.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 홈 타임라인 (내가 팔로우하는 회원들의 피드)
+ * - 쓰기 : 피드 작성 시 팔로워들의 redis 타임라인에 feedId 추가 (fan-out-on-write)
+ * - 팔로워가 CELEBRITY_FOLLOWER_COUNT 이상인 회원은 fan-out 하지 않고 읽을 때 DB 에서 합침 (fan-out-on-read)
+ * - 타임라인이 없으면 (첫 조회, 만료, 팔로우 변경) DB 에서 최신 MAX_SIZE 개로 다시 만듦
+ * - 삭제된 피드는 타임라인에 남아 있어도 조회 시 DB 에 없으므로 자연히 빠짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedTimelineService {
+
+    private static final long CELEBRITY_FOLLOWER_COUNT = 10_000L;
+    private static final int FAN_OUT_BATCH_SIZE = 1_000;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final FeedTimelineRepository feedTimelineRepository;
+    private final FeedRepository feedRepository;
+    private final FollowRepository followRepository;
+
+    // 작성자 + 작성자의 팔로워 타임라인에 피드 추가
+    public void fanOut(Long feedId, Long authorId) {
+        feedTimelineRepository.push(List.of(authorId), feedId);
+
+        boolean celebrity = followRepository.countFollowers(authorId) >= CELEBRITY_FOLLOWER_COUNT;
+        feedTimelineRepository.markCelebrity(authorId, celebrity);
+        if (celebrity) {
+            return;
+        }
+
+        long cursor = 0L;
+        PageRequest batch = PageRequest.of(0, FAN_OUT_BATCH_SIZE);
+        while (true) {
+            List<Object[]> rows = followRepository.findFollowerIdsAfter(authorId, cursor, batch);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> followerIds = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                followerIds.add((Long) row[1]);
+            }
+            feedTimelineRepository.push(followerIds, feedId);
+
+            cursor = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < FAN_OUT_BATCH_SIZE) {
+                break;
+            }
+        }
+    }
+
+    // 팔로우 관계가 바뀌면 타임라인을 버리고 다음 조회 시 다시 만듦
+    public void evict(Long memberId) {
+        feedTimelineRepository.evict(memberId);
+    }
+
+    // 트랜잭션 없이 조회마다 바로 커밋 -> REPEATABLE READ 에서 첫 조회의 스냅샷을 공유하지 않아야
+    // 재생성 이후 "놓친 피드" 조회가 그 사이 커밋된 피드를 볼 수 있음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CursorSlice<TimelineFeedResponse> getHomeTimeline(Long memberId, Long cursorFeedId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        if (!feedTimelineRepository.exists(memberId)) {
+            List<Long> recent = feedRepository.findTimelineFeedIds(memberId, PageRequest.of(0, FeedTimelineRepository.MAX_SIZE));
+            feedTimelineRepository.rebuild(memberId, recent);
+
+            // DB 조회 ~ 재생성 사이에 커밋된 피드는 키가 없어 push 가 건너뛰었으므로 다시 합침
+            // (재생성 이후 커밋된 피드는 push 가 키를 보고 추가)
+            Long newest = recent.isEmpty() ? 0L : recent.get(0);
+            List<Long> missed = feedRepository.findTimelineFeedIdsAfter(memberId, newest, PageRequest.of(0, FeedTimelineRepository.MAX_SIZE));
+            if (!missed.isEmpty()) {
+                feedTimelineRepository.rebuild(memberId, missed);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회, 최신순 + 중복 제거
+        Set<Long> candidates = new TreeSet<>(Comparator.reverseOrder());
+        candidates.addAll(feedTimelineRepository.findBefore(memberId, cursorFeedId, pageSize + 1));
+
+        // fan-out 하지 않는 회원 중 내가 팔로우하는 회원의 피드 합치기
+        Set<Long> celebrities = feedTimelineRepository.findCelebrities();
+        if (!celebrities.isEmpty()) {
+            List<Long> followedCelebrities = followRepository.findFolloweeIdsIn(memberId, celebrities);
+            if (!followedCelebrities.isEmpty()) {
+                candidates.addAll(feedRepository.findFeedIdsByAuthorsBefore(
+                        followedCelebrities,
+                        cursorFeedId == null ? Long.MAX_VALUE : cursorFeedId,
+                        CursorSlice.limit(pageSize)));
+            }
+        }
+
+        // id 로 페이지를 자른 뒤 상세 조회
+        CursorSlice<Long> page = CursorSlice.of(candidates.stream().limit(pageSize + 1L).toList(), pageSize, Function.identity());
+        List<Long> feedIds = page.getContent();
+        List<TimelineFeedResponse> feeds = feedIds.isEmpty() ? List.of() : feedRepository.findTimelineFeeds(feedIds);
+
+        return page.withContent(feeds);
+    }
+}
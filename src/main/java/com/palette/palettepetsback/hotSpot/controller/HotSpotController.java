@@ -1,8 +1,7 @@
 package com.palette.palettepetsback.hotSpot.controller;
 
+import com.palette.palettepetsback.analytics.service.VisitorAnalyticsService;
 import com.palette.palettepetsback.config.SingleTon.ViewerLimit;
-import com.palette.palettepetsback.config.aop.notification.NeedNotification;
-import com.palette.palettepetsback.config.aop.notification.NotificationThreadLocal;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
 import com.palette.palettepetsback.hotSpot.dto.request.HotSpotAddRequest;
@@ -31,11 +30,11 @@ public class HotSpotController {
 
     private final HotSpotService hotSpotService;
     private final ViewerLimit viewerLimit;
+    private final VisitorAnalyticsService visitorAnalyticsService;
 
 
     // 게시글 추가 (파일 포함)
     @PostMapping
-    @NeedNotification
     public ResponseEntity<Boolean> addHotSpot(@Valid @RequestPart("request") HotSpotAddRequest request,
                                            @RequestPart(value = "files", required = false) MultipartFile[] files,
                                            @JwtAuth AuthInfoDto authInfoDto) {
@@ -48,36 +47,24 @@ public class HotSpotController {
                 throw new RuntimeException("이미지 저장 중 오류가 났습니다");
             }
         }
-        NotificationThreadLocal.setNotificationInfo(authInfoDto.getMemberId(), 
-                "명소 추천 글을 작성 성공했습니다", 
-                111);
-
         return ResponseEntity.ok(true);
     }
 
     // 게시글 업데이트
     @PutMapping("/{id}")
-    @NeedNotification
     public ResponseEntity<Boolean> updateHotSpot(@PathVariable("id") Long id,
                                               @Validated @RequestPart("request") HotSpotUpdateRequest request,
                                               @RequestPart(value = "files", required = false) MultipartFile[] files,
                                               @JwtAuth AuthInfoDto authInfoDto) {
-        hotSpotService.HotSpotUpdate(request, files);
-        NotificationThreadLocal.setNotificationInfo(authInfoDto.getMemberId(),
-                "명소 추천 글을 수정했습니다",
-                113);
+        hotSpotService.HotSpotUpdate(request, files, authInfoDto.getMemberId());
         return ResponseEntity.ok(true);
     }
 
     // 게시글 삭제
     @DeleteMapping("/{id}")
-    @NeedNotification
     public boolean deleteHotSpot(@PathVariable("id") Long id,
                                  @JwtAuth AuthInfoDto authInfoDto) {
-        hotSpotService.HotSpotDelete(id);
-        NotificationThreadLocal.setNotificationInfo(authInfoDto.getMemberId(),
-                "명소 추천 글을 삭제했습니다",
-                112);
+        hotSpotService.HotSpotDelete(id, authInfoDto.getMemberId());
         return true;
     }
 
@@ -92,9 +79,11 @@ public class HotSpotController {
     public HotSpotResponse getHotSpotDetail(@PathVariable("id") Long id,
                                             HttpServletRequest request) {
         // 조회할 게시글 조회수 + 1
-        if (viewerLimit.viewLimit(request)) {
+        if (viewerLimit.viewLimit(request, ViewerLimit.ContentType.HOT_SPOT, id)) {
             hotSpotService.plusCountView(id);
         }
+        // 순 방문자 통계
+        visitorAnalyticsService.record(request, ViewerLimit.ContentType.HOT_SPOT, id);
         return hotSpotService.getHotSpotWithImg(id);
     }
 
@@ -18,11 +18,13 @@ import com.palette.palettepetsback.hotSpot.repository.HotSpotStarPointRepository
 import com.palette.palettepetsback.hotSpot.repository.ImgHotSpotRepository;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.notification.event.NotificationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -41,6 +43,7 @@ public class HotSpotService {
     private final NCPObjectStorageService objectStorageService;
     private final ImgHotSpotRepository imgHotSpotRepository;
     private final HotSpotStarPointRepository hotSpotStarPointRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //hotspot 저장 메서드
     @CacheEvict(value = "hotSpotList", allEntries = true, cacheManager = "cacheManager")
@@ -61,6 +64,8 @@ public class HotSpotService {
                 .build();
 
         HotSpot saved = hotSpotRepository.save(hotSpot);
+        // 커밋 이후 작성자에게 알림
+        eventPublisher.publishEvent(new NotificationEvent(dto.getMemberId(), "명소 추천 글을 작성 성공했습니다", 111));
 
         return saved.getId();
     }
@@ -68,7 +73,7 @@ public class HotSpotService {
     //hotspot 업데이트 메서드
     @CacheEvict(value = "hotSpotList", allEntries = true, cacheManager = "cacheManager")
     @Transactional
-    public void HotSpotUpdate(HotSpotUpdateRequest dto, MultipartFile[] files) {
+    public void HotSpotUpdate(HotSpotUpdateRequest dto, MultipartFile[] files, Long memberId) {
 
         HotSpot hotSpot = hotSpotRepository.findById(dto.getHotSpotId())
                 .orElseThrow(() -> new RuntimeException("명소 추천 게시글이 존재하지 않습니다."));
@@ -93,16 +98,19 @@ public class HotSpotService {
             log.info("수정해서 대신 넣을 file 이 없음");
         }
 
+        eventPublisher.publishEvent(new NotificationEvent(memberId, "명소 추천 글을 수정했습니다", 113));
+
     }
 
     //hotspot 삭제 메서드
     @CacheEvict(value = "hotSpotList", allEntries = true, cacheManager = "cacheManager")
     @Transactional
-    public void HotSpotDelete(Long id){
+    public void HotSpotDelete(Long id, Long memberId){
         HotSpot hotSpot = hotSpotRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("명소 추천 게시글이 존재하지 않습니다."));
 
         hotSpot.changeIsDeleted();
+        eventPublisher.publishEvent(new NotificationEvent(memberId, "명소 추천 글을 삭제했습니다", 112));
     }
 
     //hotspot 리스트 쿼리 메서드
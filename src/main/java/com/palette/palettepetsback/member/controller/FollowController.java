@@ -1,5 +1,6 @@
 package com.palette.palettepetsback.member.controller;
 
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.config.security.CustomUserDetails;
 import com.palette.palettepetsback.member.dto.FollowResponse;
 import com.palette.palettepetsback.member.service.FollowService;
@@ -79,4 +80,19 @@ public class FollowController {
         }
     }
 
+    // 팔로워 목록 커서 페이지 ex) /member/follower/{nickname}/page?cursor=120&size=20
+    @GetMapping("member/follower/{nickname}/page")
+    public ResponseEntity<CursorSlice<FollowResponse>> getFollowerPage(@PathVariable("nickname") String nickname,
+                                                                       @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                       @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowerPage(nickname, cursor, size));
+    }
+
+    // 팔로잉 목록 커서 페이지
+    @GetMapping("member/following/{nickname}/page")
+    public ResponseEntity<CursorSlice<FollowResponse>> getFollowingPage(@PathVariable("nickname") String nickname,
+                                                                        @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                        @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowingPage(nickname, cursor, size));
+    }
 }
@@ -1,8 +1,7 @@
 package com.palette.palettepetsback.member.controller;
 
-import com.palette.palettepetsback.config.Mail.EmailResponseDTO;
-import com.palette.palettepetsback.config.Mail.RegisterMail;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
+import com.palette.palettepetsback.config.jwt.MemberContext;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
 import com.palette.palettepetsback.config.security.CustomUserDetails;
 import com.palette.palettepetsback.member.dto.*;
@@ -10,6 +9,7 @@ import com.palette.palettepetsback.member.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -27,7 +27,7 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
-    private final RegisterMail registerMail;
+    private final MemberContext memberContext;
 
     private static Long getMemberId(Authentication authentication) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
@@ -45,10 +45,14 @@ public class MemberController {
                 return new ResponseEntity<>(error.getDefaultMessage(), HttpStatus.BAD_REQUEST);
             }
         }
-        if (memberService.checkEmailDuplicate(joinRequest.getEmail())) {
+        if (memberService.existsEmail(joinRequest.getEmail())) {
+            return ResponseEntity.badRequest().body("이미 존재하는 이메일입니다.");
+        }
+        try {
+            memberService.join(joinRequest);
+        } catch (DataIntegrityViolationException e) { // 동시에 같은 이메일로 가입 -> unique 제약 위반
             return ResponseEntity.badRequest().body("이미 존재하는 이메일입니다.");
         }
-        memberService.join(joinRequest);
 
 
         return ResponseEntity.ok("회원가입이 완료되었습니다.");
@@ -58,10 +62,8 @@ public class MemberController {
     //등록된 이메일로 임시비밀번호를 발송하고 발송된 임시비밀번호로 사용자의 pw를 변경하는 컨트롤러
     @PostMapping("/memberF/findPw")
     public ResponseEntity<String> sendEmail(@RequestBody MemberRequest.Email Email) {
-        if (memberService.checkEmailDuplicate(Email.getEmail())) { //이메일 존재
-            EmailResponseDTO.sendPwDto dto = memberService.createMailUpdatePW(Email.getEmail());
-
-            registerMail.mailSend(dto);
+        if (memberService.existsEmail(Email.getEmail())) { //이메일 존재
+            memberService.createMailUpdatePW(Email.getEmail());
 
             return ResponseEntity.ok("이메일이 전송되었습니다. 메일함에서 확인해 주세요.");
         } else {
@@ -70,6 +72,13 @@ public class MemberController {
     }
 
 
+    //이메일 중복확인 버튼 (입력 중 확인용, 가입 시에는 DB 로 다시 확인)
+    //중복시 true 반환
+    @PostMapping("/memberF/checkemail")
+    public Boolean checkEmail(@RequestBody MemberRequest.Email email) {
+        return memberService.checkEmailDuplicate(email.getEmail());
+    }
+
     //닉네임 중복확인 버튼
     //중복시 true 반환
     @PostMapping("/memberF/checknickname")
@@ -115,14 +124,18 @@ public class MemberController {
             }
         }
         //닉네임 중복 확인
-        if (memberService.checkNicknameDuplicate(nicknameRequest.getNickName())) {
+        if (memberService.existsNickname(nicknameRequest.getNickName())) {
             return ResponseEntity.badRequest().body("이미 존재하는 닉네임입니다.");
         }
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication.getPrincipal() instanceof CustomUserDetails) {
             Long memberId = getMemberId(authentication);
 
-            memberService.updateNickname(memberId, nicknameRequest);
+            try {
+                memberService.updateNickname(memberId, nicknameRequest);
+            } catch (DataIntegrityViolationException e) { // 동시에 같은 닉네임으로 변경 -> unique 제약 위반
+                return ResponseEntity.badRequest().body("이미 존재하는 닉네임입니다.");
+            }
         } else {
             return ResponseEntity.badRequest().body("인증되지 않은 사용자입니다.");
         }
@@ -210,8 +223,7 @@ public class MemberController {
     public MyPageRespons getMyPage(@PathVariable("nickname") String nickname,
                                     @JwtAuth AuthInfoDto authInfoDto){
 
-        Long memberId= authInfoDto.getMemberId();
-        return memberService.getMyPage(memberId, nickname);
+        return memberService.getMyPage(authInfoDto, nickname);
     }
 
 // mypage setting - 닉네임, 이메일 반환
@@ -247,7 +259,8 @@ public class MemberController {
     // 닉네임 가져오기 api
     @GetMapping("/member/nickname")
     public ResponseEntity<String> getNickname(@JwtAuth AuthInfoDto authInfoDto){
-        String memberNickname = authInfoDto.getMemberNickname();
+        // 토큰 claims 는 재발급 / 닉네임 변경 후 없거나 이전 값 -> 회원 요약 캐시에서 조회
+        String memberNickname = memberContext.getMemberNickname();
         return ResponseEntity.ok(memberNickname);
     }
 }
@@ -1,13 +1,16 @@
 package com.palette.palettepetsback.member.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter @Setter
 @NoArgsConstructor
+@AllArgsConstructor
 public class FollowResponse {
     private Long id;
+    private Long memberId; // 목록에 표시되는 상대 회원 id (다음 페이지 커서)
     private String nickname;
     private String profile;
 }
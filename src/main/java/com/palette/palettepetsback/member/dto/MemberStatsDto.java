@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 회원 프로필 카운터 (팔로워 / 팔로잉 / 피드 수)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MemberStatsDto {
+    private long followerCount;
+    private long followingCount;
+    private long feedCount;
+}
@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 요약 정보 (id / 닉네임 / 프로필 이미지) -> MemberSummaryCache 에 보관
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSummary {
+    private Long memberId;
+    private String nickname;
+    private String image;
+}
@@ -9,7 +9,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "member_follow")
+@Table(name = "member_follow", indexes = {
+        // 팔로워 목록 / 팔로우 여부 확인용 (followerId 기준)
+        @Index(name = "uk_member_follow_follower_following", columnList = "follower_id, following_id", unique = true),
+        // 팔로잉 목록용 (followingId 기준)
+        @Index(name = "uk_member_follow_following_follower", columnList = "following_id, follower_id", unique = true)
+})
 public class Follow {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +26,7 @@ public class Member {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
     private Long memberId;
+    @Column(name = "email", unique = true)
     private String email;
     private String password;
     @Column(name = "member_name")
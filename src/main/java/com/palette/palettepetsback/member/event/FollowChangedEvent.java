@@ -0,0 +1,20 @@
+package com.palette.palettepetsback.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 팔로우 / 언팔로우 -> 커밋 후 타임라인 등 후처리
+ * - memberId : 팔로우 "하는" 회원
+ * - targetId : 팔로우 "당하는" 회원
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class FollowChangedEvent {
+
+    private final Long memberId;
+    private final Long targetId;
+    private final boolean followed;
+}
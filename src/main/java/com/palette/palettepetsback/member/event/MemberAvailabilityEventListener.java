@@ -0,0 +1,31 @@
+package com.palette.palettepetsback.member.event;
+
+import com.palette.palettepetsback.member.service.MemberAvailabilityFilter;
+import com.palette.palettepetsback.member.service.MemberAvailabilityFilter.Field;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 가입 / 닉네임 변경만 Bloom filter 에 반영
+ * (소셜 로그인 가입은 트랜잭션 밖에서 저장될 수 있어서 fallbackExecution)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberAvailabilityEventListener {
+
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleIdentityAdded(MemberIdentityAddedEvent event) {
+        try {
+            memberAvailabilityFilter.addAndPublish(Field.EMAIL, event.getEmail());
+            memberAvailabilityFilter.addAndPublish(Field.NICKNAME, event.getNickname());
+        } catch (Exception e) {
+            log.error("Failed to add member identity to availability filter", e);
+        }
+    }
+}
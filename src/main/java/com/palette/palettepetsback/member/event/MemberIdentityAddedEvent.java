@@ -0,0 +1,16 @@
+package com.palette.palettepetsback.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이메일 / 닉네임이 새로 사용되기 시작함 (가입, 닉네임 변경, 소셜 로그인 정보 갱신)
+ * -> 커밋 후 사용 가능 여부 Bloom filter 에 추가
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberIdentityAddedEvent {
+    // 변경되지 않은 값은 null
+    private final String email;
+    private final String nickname;
+}
@@ -0,0 +1,15 @@
+package com.palette.palettepetsback.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 닉네임 / 프로필 이미지 변경 (탈퇴 포함) 이벤트 -> 커밋 후 회원 요약 캐시 무효화
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberProfileChangedEvent {
+    private final Long memberId;
+    // 변경 전 닉네임 (닉네임 -> id 캐시 제거용)
+    private final String oldNickname;
+}
@@ -0,0 +1,50 @@
+package com.palette.palettepetsback.member.event;
+
+import com.palette.palettepetsback.feed.event.FeedCreatedEvent;
+import com.palette.palettepetsback.feed.event.FeedDeletedEvent;
+import com.palette.palettepetsback.member.service.MemberStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 팔로우 / 피드 변경 시 프로필 카운터 무효화 -> 다음 조회 시 DB count
+ * 실패해도 카운터 TTL 이 지나면 DB 기준으로 다시 채워짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatsEventListener {
+
+    private final MemberStatsService memberStatsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFollowChanged(FollowChangedEvent event) {
+        try {
+            memberStatsService.invalidate(event.getMemberId());
+            memberStatsService.invalidate(event.getTargetId());
+        } catch (Exception e) {
+            log.error("Failed to update follow stats, event = {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFeedCreated(FeedCreatedEvent event) {
+        try {
+            memberStatsService.invalidate(event.getAuthorId());
+        } catch (Exception e) {
+            log.error("Failed to update feed stats, event = {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFeedDeleted(FeedDeletedEvent event) {
+        try {
+            memberStatsService.invalidate(event.getAuthorId());
+        } catch (Exception e) {
+            log.error("Failed to update feed stats, event = {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.palette.palettepetsback.member.event;
+
+import com.palette.palettepetsback.member.repository.MemberSummaryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 닉네임 / 프로필 이미지 변경만 회원 요약 캐시에서 제거
+ * (커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 채울 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSummaryEventListener {
+
+    private final MemberSummaryCache memberSummaryCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProfileChanged(MemberProfileChangedEvent event) {
+        try {
+            memberSummaryCache.evict(event.getMemberId(), event.getOldNickname());
+        } catch (Exception e) {
+            log.error("Failed to evict member summary, memberId = {}", event.getMemberId(), e);
+        }
+    }
+}
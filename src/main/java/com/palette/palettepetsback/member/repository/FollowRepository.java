@@ -1,17 +1,82 @@
 package com.palette.palettepetsback.member.repository;
 
+import com.palette.palettepetsback.member.dto.FollowResponse;
 import com.palette.palettepetsback.member.entity.Follow;
 import com.palette.palettepetsback.member.entity.Member;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Follow 컬럼 의미
+ * - followerId : 팔로우 "당하는" 회원
+ * - followingId : 팔로우 "하는" 회원
+ * ex) A 가 B 를 팔로우 -> followerId = B, followingId = A
+ */
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerIdAndFollowingId(Member followerId, Member followingId);
-    List<Follow> findByFollowingId(Member from_user);
-    List<Follow> findByFollowerId(Member to_user);
+    boolean existsByFollowerIdAndFollowingId(Member followerId, Member followingId);
 
+    // memberId 를 팔로우하는 회원 수
+    @Query("select count(f) from Follow f where f.followerId.memberId = :memberId")
+    long countFollowers(@Param("memberId") Long memberId);
+
+    // memberId 가 팔로우하는 회원 수
+    @Query("select count(f) from Follow f where f.followingId.memberId = :memberId")
+    long countFollowings(@Param("memberId") Long memberId);
+
+    // memberId 를 팔로우하는 회원 id -> [followId, 팔로워 memberId], followId 커서
+    @Query("select f.followId, f.followingId.memberId from Follow f " +
+            "where f.followerId.memberId = :memberId and f.followId > :cursorFollowId " +
+            "order by f.followId asc")
+    List<Object[]> findFollowerIdsAfter(@Param("memberId") Long memberId,
+                                        @Param("cursorFollowId") Long cursorFollowId,
+                                        Pageable pageable);
+
+    // memberId 가 팔로우하는 회원 중 candidateIds 에 속한 회원 id
+    @Query("select f.followerId.memberId from Follow f " +
+            "where f.followingId.memberId = :memberId and f.followerId.memberId in :candidateIds")
+    List<Long> findFolloweeIdsIn(@Param("memberId") Long memberId,
+                                 @Param("candidateIds") Collection<Long> candidateIds);
+
+    /*
+     * 팔로워 / 팔로잉 목록 커서 페이지
+     * - 상대 회원 id 내림차순 커서 -> uk_member_follow_* 인덱스 순서 그대로 읽고 limit 에서 멈춤
+     * - 상대 회원의 닉네임 / 이미지는 PK join 한 번으로 함께 조회 (N+1 없음)
+     */
+
+    // memberId 를 팔로우하는 회원 목록
+    @Query("select new com.palette.palettepetsback.member.dto.FollowResponse(f.followId, m.memberId, m.memberNickname, m.memberImage) " +
+            "from Follow f join f.followingId m " +
+            "where f.followerId.memberId = :memberId " +
+            "order by f.followingId.memberId desc")
+    List<FollowResponse> findFollowersFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select new com.palette.palettepetsback.member.dto.FollowResponse(f.followId, m.memberId, m.memberNickname, m.memberImage) " +
+            "from Follow f join f.followingId m " +
+            "where f.followerId.memberId = :memberId and f.followingId.memberId < :cursorMemberId " +
+            "order by f.followingId.memberId desc")
+    List<FollowResponse> findFollowersAfterCursor(@Param("memberId") Long memberId,
+                                                  @Param("cursorMemberId") Long cursorMemberId,
+                                                  Pageable pageable);
+
+    // memberId 가 팔로우하는 회원 목록
+    @Query("select new com.palette.palettepetsback.member.dto.FollowResponse(f.followId, m.memberId, m.memberNickname, m.memberImage) " +
+            "from Follow f join f.followerId m " +
+            "where f.followingId.memberId = :memberId " +
+            "order by f.followerId.memberId desc")
+    List<FollowResponse> findFollowingsFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select new com.palette.palettepetsback.member.dto.FollowResponse(f.followId, m.memberId, m.memberNickname, m.memberImage) " +
+            "from Follow f join f.followerId m " +
+            "where f.followingId.memberId = :memberId and f.followerId.memberId < :cursorMemberId " +
+            "order by f.followerId.memberId desc")
+    List<FollowResponse> findFollowingsAfterCursor(@Param("memberId") Long memberId,
+                                                   @Param("cursorMemberId") Long cursorMemberId,
+                                                   Pageable pageable);
 }
@@ -1,8 +1,14 @@
 package com.palette.palettepetsback.member.repository;
 
+import com.palette.palettepetsback.member.dto.MemberSummary;
 import com.palette.palettepetsback.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -18,6 +24,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Member findByPassword(String password);
 
     Optional<Member> findByMemberNickname(String NickName);
+
+    // 닉네임 -> memberId 만 조회 (엔티티 로딩 없이)
+    @Query("select m.memberId from Member m where m.memberNickname = :nickname")
+    Optional<Long> findMemberIdByMemberNickname(@Param("nickname") String nickname);
+
+    // 회원 요약 정보 (MemberSummaryCache miss 시)
+    @Query("select new com.palette.palettepetsback.member.dto.MemberSummary(m.memberId, m.memberNickname, m.memberImage) " +
+            "from Member m where m.memberId = :memberId")
+    Optional<MemberSummary> findSummaryByMemberId(@Param("memberId") Long memberId);
+
+    // 사용 가능 여부 Bloom filter 재생성용 -> [memberId, email, memberNickname], memberId 커서
+    @Query("select m.memberId, m.email, m.memberNickname from Member m " +
+            "where m.memberId > :lastId order by m.memberId asc")
+    List<Object[]> findIdentitiesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 여러 회원 닉네임 한 번에 조회 -> [memberId, memberNickname]
+    @Query("select m.memberId, m.memberNickname from Member m where m.memberId in :memberIds")
+    List<Object[]> findNicknamesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
     // 이메일 찾기 + 삭제 안 된 회원 찾기
     Optional<Member> findByEmailAndIsDeletedIsFalse(String email);
 }
@@ -0,0 +1,91 @@
+package com.palette.palettepetsback.member.repository;
+
+import com.palette.palettepetsback.member.dto.MemberStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 프로필 카운터 (redis hash)
+ * - key : member:stats:{memberId} -> follower / following / feed
+ * - member:stats:ver:{memberId} -> 무효화 버전 (변경 커밋마다 +1)
+ * - 변경 시 증감하지 않고 삭제 -> 다음 조회 시 DB count 로 다시 채움
+ *   (증감은 커밋 ~ 리스너 사이에 DB count 로 채워진 값에 한 번 더 더해질 수 있음)
+ * - DB count 전에 버전을 받아 두고, 그 사이 무효화됐으면 채우지 않음 (무효화 이전 count 가 다시 들어가는 것 방지)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MemberStatsRepository {
+
+    public static final String FOLLOWER = "follower";
+    public static final String FOLLOWING = "following";
+    public static final String FEED = "feed";
+
+    private static final String KEY_PREFIX = "member:stats:";
+    private static final String VERSION_PREFIX = "member:stats:ver:";
+    private static final long TTL_SECONDS = 24 * 60 * 60L;
+
+    // 버전이 그대로이고 키가 없을 때만 세 값을 한 번에 채움
+    // KEYS = stats, ver / ARGV = follower, following, feed, ttl, version
+    private static final RedisScript<Long> INIT_IF_VERSION = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '0' " +
+            "if version ~= ARGV[5] then return 0 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'follower', ARGV[1], 'following', ARGV[2], 'feed', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // 버전 증가 후 삭제 -> 증가 이전에 버전을 받은 init 은 모두 버려짐
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return version",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public MemberStatsDto find(Long memberId) {
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(key(memberId));
+        if (values.size() < 3) {
+            return null;
+        }
+        return new MemberStatsDto(
+                Long.parseLong((String) values.get(FOLLOWER)),
+                Long.parseLong((String) values.get(FOLLOWING)),
+                Long.parseLong((String) values.get(FEED)));
+    }
+
+    // DB count 직전에 호출
+    public long version(Long memberId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + memberId);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    // DB 에서 센 값으로 초기화 -> 이미 다른 요청이 채웠거나 count 도중 무효화됐다면 채우지 않음
+    public void init(Long memberId, MemberStatsDto stats, long version) {
+        redisTemplate.execute(INIT_IF_VERSION, List.of(key(memberId), VERSION_PREFIX + memberId),
+                String.valueOf(stats.getFollowerCount()),
+                String.valueOf(stats.getFollowingCount()),
+                String.valueOf(stats.getFeedCount()),
+                String.valueOf(TTL_SECONDS),
+                String.valueOf(version));
+    }
+
+    public void invalidate(Long memberId) {
+        redisTemplate.execute(INVALIDATE, List.of(key(memberId), VERSION_PREFIX + memberId),
+                String.valueOf(TTL_SECONDS * 2));
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
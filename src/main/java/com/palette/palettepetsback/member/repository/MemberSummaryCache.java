@@ -0,0 +1,228 @@
+package com.palette.palettepetsback.member.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palette.palettepetsback.member.dto.MemberSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 요약 정보 2단계 캐시 (로컬 LRU + redis)
+ * - member:summary:{memberId} -> hash (nickname, image)
+ * - member:nickname:{nickname} -> memberId
+ * - member:summary:ver:{memberId} -> 무효화 버전 (evict 마다 +1)
+ * - 변경 시 redis 키 삭제 후 member:summary:invalidate 채널로 발행 -> 모든 노드가 로컬 캐시에서 제거
+ * - DB 조회 전에 stamp 를 받아 두고, 조회 도중 evict 가 일어났으면 put 을 버림 (오래된 값이 evict 뒤에 다시 들어가는 것 방지)
+ * redis 장애 시 로컬 캐시 + DB 로만 동작 (로컬 TTL 이 짧으므로 다른 노드 변경도 곧 반영됨)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MemberSummaryCache implements MessageListener {
+
+    private static final String SUMMARY_PREFIX = "member:summary:";
+    private static final String NICKNAME_PREFIX = "member:nickname:";
+    private static final String VERSION_PREFIX = "member:summary:ver:";
+    private static final String INVALIDATE_CHANNEL = "member:summary:invalidate";
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(30);
+    // DB 조회 한 번보다 충분히 길게
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(1);
+
+    // 버전이 stamp 와 같을 때만 저장
+    // KEYS = ver, summary, nickname / ARGV = version, ttl(초), nickname, image, memberId ("" = 없음)
+    private static final RedisScript<Long> PUT_IF_VERSION = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[1]) or '0' " +
+            "if version ~= ARGV[1] then return 0 end " +
+            "if ARGV[3] ~= '' then " +
+            "   redis.call('HSET', KEYS[2], 'nickname', ARGV[3]) " +
+            "   redis.call('SET', KEYS[3], ARGV[5], 'EX', ARGV[2]) " +
+            "end " +
+            "if ARGV[4] ~= '' then redis.call('HSET', KEYS[2], 'image', ARGV[4]) end " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('EXPIRE', KEYS[2], ARGV[2]) end " +
+            "return 1",
+            Long.class);
+
+    // 버전 증가 후 삭제 -> 증가 이전에 stamp 를 받은 put 은 모두 버려짐
+    // KEYS = ver, summary, nickname(없으면 summary 와 같은 키) / ARGV = 버전 키 ttl(초)
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('DEL', KEYS[2], KEYS[3]) " +
+            "return version",
+            Long.class);
+
+    /**
+     * DB 조회 전에 받아 두는 값
+     * @param readAt  로컬 기준 시각 (System.nanoTime)
+     * @param version redis 무효화 버전, redis 장애 시 -1 (redis 에는 저장하지 않음)
+     */
+    public record Stamp(long readAt, long version) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<Long, MemberSummary> summaryById = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+    private final Cache<String, Long> idByNickname = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+    // 최근 무효화 시각 (System.nanoTime) -> 그 이전에 시작한 조회 결과는 로컬에 넣지 않음
+    private final Cache<Long, Long> evictedAt = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(TOMBSTONE_TTL)
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public MemberSummary find(Long memberId) {
+        MemberSummary local = summaryById.getIfPresent(memberId);
+        if (local != null) {
+            return local;
+        }
+        long readAt = System.nanoTime();
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(SUMMARY_PREFIX + memberId);
+            if (entries.isEmpty()) {
+                return null;
+            }
+            MemberSummary summary = new MemberSummary(
+                    memberId,
+                    (String) entries.get("nickname"),
+                    (String) entries.get("image"));
+            if (!evictedSince(memberId, readAt)) {
+                summaryById.put(memberId, summary);
+            }
+            return summary;
+        } catch (DataAccessException e) {
+            log.warn("[MemberSummaryCache] 캐시 읽기 실패, memberId = {}, {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    public Long findId(String nickname) {
+        Long local = idByNickname.getIfPresent(nickname);
+        if (local != null) {
+            return local;
+        }
+        long readAt = System.nanoTime();
+        try {
+            String value = redisTemplate.opsForValue().get(NICKNAME_PREFIX + nickname);
+            if (value == null) {
+                return null;
+            }
+            Long memberId = Long.valueOf(value);
+            if (!evictedSince(memberId, readAt)) {
+                idByNickname.put(nickname, memberId);
+            }
+            return memberId;
+        } catch (DataAccessException e) {
+            log.warn("[MemberSummaryCache] 캐시 읽기 실패, nickname = {}, {}", nickname, e.getMessage());
+            return null;
+        }
+    }
+
+    // DB 조회 직전에 호출
+    public Stamp stamp(Long memberId) {
+        long readAt = System.nanoTime();
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_PREFIX + memberId);
+            return new Stamp(readAt, version == null ? 0L : Long.parseLong(version));
+        } catch (DataAccessException e) {
+            log.warn("[MemberSummaryCache] 버전 읽기 실패, memberId = {}, {}", memberId, e.getMessage());
+            return new Stamp(readAt, -1L);
+        }
+    }
+
+    // stamp 이후 무효화된 회원이면 저장하지 않음
+    public void put(MemberSummary summary, Stamp stamp) {
+        Long memberId = summary.getMemberId();
+        if (!evictedSince(memberId, stamp.readAt())) {
+            summaryById.put(memberId, summary);
+            if (summary.getNickname() != null) {
+                idByNickname.put(summary.getNickname(), memberId);
+            }
+        }
+        if (stamp.version() < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_IF_VERSION,
+                    List.of(VERSION_PREFIX + memberId, SUMMARY_PREFIX + memberId,
+                            NICKNAME_PREFIX + (summary.getNickname() == null ? "" : summary.getNickname())),
+                    String.valueOf(stamp.version()),
+                    String.valueOf(REMOTE_TTL.toSeconds()),
+                    summary.getNickname() == null ? "" : summary.getNickname(),
+                    summary.getImage() == null ? "" : summary.getImage(),
+                    String.valueOf(memberId));
+        } catch (DataAccessException e) {
+            log.warn("[MemberSummaryCache] 캐시 저장 실패, memberId = {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 회원 정보 변경 후 (커밋 이후) 호출
+     * @param oldNickname 변경 전 닉네임 -> 닉네임 -> id 매핑도 제거
+     */
+    public void evict(Long memberId, String oldNickname) {
+        evictLocal(memberId, oldNickname);
+        try {
+            String summaryKey = SUMMARY_PREFIX + memberId;
+            redisTemplate.execute(INVALIDATE,
+                    List.of(VERSION_PREFIX + memberId, summaryKey,
+                            oldNickname == null ? summaryKey : NICKNAME_PREFIX + oldNickname),
+                    String.valueOf(REMOTE_TTL.toSeconds() * 2));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, memberId + "|" + (oldNickname == null ? "" : oldNickname));
+        } catch (DataAccessException e) {
+            log.warn("[MemberSummaryCache] 캐시 무효화 실패, memberId = {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    // 다른 노드 (또는 자신) 가 발행한 무효화 메시지 -> "{memberId}|{oldNickname}"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 2);
+        try {
+            Long memberId = Long.valueOf(parts[0]);
+            String oldNickname = parts.length > 1 && !parts[1].isEmpty() ? parts[1] : null;
+            evictLocal(memberId, oldNickname);
+        } catch (NumberFormatException e) {
+            log.warn("[MemberSummaryCache] 잘못된 무효화 메시지 = {}", body);
+        }
+    }
+
+    private void evictLocal(Long memberId, String oldNickname) {
+        evictedAt.put(memberId, System.nanoTime());
+        summaryById.invalidate(memberId);
+        if (oldNickname != null) {
+            idByNickname.invalidate(oldNickname);
+        }
+    }
+
+    private boolean evictedSince(Long memberId, long readAt) {
+        Long evicted = evictedAt.getIfPresent(memberId);
+        return evicted != null && evicted - readAt >= 0;
+    }
+}
@@ -3,9 +3,11 @@ package com.palette.palettepetsback.member.service;
 import com.palette.palettepetsback.config.exceptions.EmailExistsException;
 import com.palette.palettepetsback.member.dto.*;
 import com.palette.palettepetsback.member.entity.Member;
+import com.palette.palettepetsback.member.event.MemberIdentityAddedEvent;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -20,6 +22,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -76,6 +79,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                       .build();
 
             Member savedMember = memberRepository.save(member);
+            // 사용 가능 여부 Bloom filter 에 반영
+            eventPublisher.publishEvent(new MemberIdentityAddedEvent(savedMember.getEmail(), savedMember.getMemberNickname()));
 
             UserDTO userDTO = new UserDTO();
             userDTO.setUsername(username);
@@ -99,6 +104,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             );
 
             Member savedMember = memberRepository.save(existData);
+            // 소셜 정보로 이메일 / 닉네임이 바뀌었을 수 있음
+            eventPublisher.publishEvent(new MemberIdentityAddedEvent(savedMember.getEmail(), savedMember.getMemberNickname()));
 
             UserDTO userDTO = new UserDTO();
             userDTO.setUsername(existData.getPassword());
@@ -1,94 +1,107 @@
 package com.palette.palettepetsback.member.service;
 
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.member.dto.FollowResponse;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.entity.Follow;
+import com.palette.palettepetsback.member.event.FollowChangedEvent;
 import com.palette.palettepetsback.member.repository.FollowRepository;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class FollowService {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final FollowRepository followRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberSummaryService memberSummaryService;
 
     public void follow(String nickname, Long followingId) {
-        System.out.println("nickname = " + nickname);
-        System.out.println("followingId = " + followingId);
-        Optional<Member> followerMember = memberRepository.findByMemberNickname(nickname);
-        Optional<Member> followingMember= memberRepository.findByMemberId(followingId);
+        Long followerId = memberSummaryService.findIdByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("팔로우 하려는 유저는 없는사람입니다."));
         // 자기 자신 follow 안됨
-        if (followerMember.get().getMemberId() == followingMember.get().getMemberId())
+        if (followerId.equals(followingId))
             throw new IllegalArgumentException("자기 자신을 follow할 수 없습니다.");
+        Member follower = memberRepository.getReferenceById(followerId);
 
-        if (followerMember.isPresent()) {
-            Optional<Follow> Checkfollow = followRepository.findByFollowerIdAndFollowingId(followerMember.get(),followingMember.get());
-            if (Checkfollow.isPresent()){
-                throw new IllegalArgumentException("같은 사람을 팔로우 했습니다.");
-            }
-            Member follower = followerMember.get();
-            Member followee = memberRepository.findById(followingId).orElseThrow();
+        // 로그인 회원은 FK 지정에만 쓰이므로 조회하지 않고 참조만 사용
+        Member followee = memberRepository.getReferenceById(followingId);
+        if (followRepository.existsByFollowerIdAndFollowingId(follower, followee)) {
+            throw new IllegalArgumentException("같은 사람을 팔로우 했습니다.");
+        }
 
-            Follow follow = new Follow();
-            follow.saveFollow(follower,followee);
+        Follow follow = new Follow();
+        follow.saveFollow(follower,followee);
 
-            followRepository.save(follow);
-        } else {
-            throw new IllegalArgumentException("팔로우 하려는 유저는 없는사람입니다.");
-        }
+        followRepository.save(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(followingId, followerId, true));
     }
 
     public void unfollow(String nickname, Long followeeId) {
-        Optional<Member> followerMember = memberRepository.findByMemberNickname(nickname);
-        Optional<Member> followingMember = memberRepository.findByMemberId(followeeId);
-
-        Optional<Follow> follow = followRepository.findByFollowerIdAndFollowingId(followerMember.get(), followingMember.get());
-        followRepository.delete(follow.get());
+        Long followerId = memberSummaryService.findIdByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("언팔로우 하려는 유저는 없는사람입니다."));
+        Member followerMember = memberRepository.getReferenceById(followerId);
+        Member followingMember = memberRepository.getReferenceById(followeeId);
+
+        followRepository.findByFollowerIdAndFollowingId(followerMember, followingMember)
+                .ifPresent(follow -> {
+                    followRepository.delete(follow);
+                    eventPublisher.publishEvent(new FollowChangedEvent(followeeId, followerId, false));
+                });
     }
 
+    // 기존 전체 목록 API : 프로젝션 조회로 N+1 만 제거 (신규 화면은 페이지 API 사용)
+    @Transactional(readOnly = true)
     public List<FollowResponse> getFollowerList(String nickname, Long memberId) {
-        Member ToMember = memberRepository.findByMemberNickname(nickname).orElseThrow();
-        //Member FromMember = memberRepository.findById(memberId).orElseThrow(); //나중에 쓸수도 있어서 냅둠.
-
-        List<Follow> list = followRepository.findByFollowerId(ToMember);
-        List<FollowResponse> followerList = new ArrayList<>();
-
-        for (Follow f : list) {
-            FollowResponse followResponse =new FollowResponse();
-            followResponse.setNickname(f.getFollowingId().getMemberNickname());
-            followResponse.setProfile(f.getFollowingId().getMemberImage());
-            followResponse.setId(f.getFollowId());
+        Long targetId = findMemberId(nickname);
+        return followRepository.findFollowersFirstPage(targetId, Pageable.unpaged());
+    }
 
-            followerList.add(followResponse);
-        }
+    @Transactional(readOnly = true)
+    public List<FollowResponse> getFollowingList(String nickname, Long memberId) {
+        Long targetId = findMemberId(nickname);
+        return followRepository.findFollowingsFirstPage(targetId, Pageable.unpaged());
+    }
 
-        return followerList;
+    // nickname 회원을 팔로우하는 회원 커서 페이지
+    @Transactional(readOnly = true)
+    public CursorSlice<FollowResponse> getFollowerPage(String nickname, Long cursor, int size) {
+        Long targetId = findMemberId(nickname);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        List<FollowResponse> follows = cursor == null
+                ? followRepository.findFollowersFirstPage(targetId, limit)
+                : followRepository.findFollowersAfterCursor(targetId, cursor, limit);
+        return CursorSlice.of(follows, pageSize, FollowResponse::getMemberId);
     }
 
-    public List<FollowResponse> getFollowingList(String nickname, Long memberId) {
-        Member ToMember = memberRepository.findByMemberNickname(nickname).orElseThrow();
-        //Member FromMember = memberRepository.findById(memberId).orElseThrow();
-
-        List<Follow> list = followRepository.findByFollowingId(ToMember);
-        List<FollowResponse> followingList = new ArrayList<>();
-
-        for (Follow f : list) {
-            FollowResponse followResponse = new FollowResponse();
-            followResponse.setNickname(f.getFollowerId().getMemberNickname());
-            followResponse.setProfile(f.getFollowerId().getMemberImage());
-            followResponse.setId(f.getFollowId());
-            followingList.add(followResponse);
-        }
-        return followingList;
+    // nickname 회원이 팔로우하는 회원 커서 페이지
+    @Transactional(readOnly = true)
+    public CursorSlice<FollowResponse> getFollowingPage(String nickname, Long cursor, int size) {
+        Long targetId = findMemberId(nickname);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        List<FollowResponse> follows = cursor == null
+                ? followRepository.findFollowingsFirstPage(targetId, limit)
+                : followRepository.findFollowingsAfterCursor(targetId, cursor, limit);
+        return CursorSlice.of(follows, pageSize, FollowResponse::getMemberId);
     }
 
+    private Long findMemberId(String nickname) {
+        return memberSummaryService.findIdByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    }
 }
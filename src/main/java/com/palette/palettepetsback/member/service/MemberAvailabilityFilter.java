@@ -0,0 +1,215 @@
+package com.palette.palettepetsback.member.service;
+
+import com.palette.palettepetsback.config.bloom.BloomFilter;
+import com.palette.palettepetsback.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이메일 / 닉네임 사용 가능 여부 사전 확인용 Bloom filter (인스턴스 메모리)
+ * - mightContain 이 false -> 사용 가능 확정 (DB 조회 X)
+ * - true -> 사용 중일 수도 있음 -> DB exists 로 확인 (이때 DB 에 없으면 오탐으로 집계)
+ *
+ * 정합성
+ * - 시작 시 / 하루 한 번 DB 전체를 읽어서 새 필터를 만든 뒤 교체 (삭제 불가 구조라 변경된 닉네임이 쌓이는 것 정리)
+ * - 가입 / 닉네임 변경은 커밋 후 add + member:availability:add 채널로 다른 노드에도 전파
+ * - 필터가 아직 준비되지 않았으면 항상 DB 조회
+ * - 대소문자 / 앞뒤 공백은 정규화 -> 오탐만 늘 뿐 "있는데 없다" 고 답하지 않음
+ */
+@Slf4j
+@Component
+public class MemberAvailabilityFilter implements MessageListener {
+
+    public enum Field { EMAIL, NICKNAME }
+
+    private static final String ADD_CHANNEL = "member:availability:add";
+    private static final int REBUILD_PAGE_SIZE = 5_000;
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    // 사용 중인 필터 (null 이면 아직 준비 안 됨)
+    private volatile BloomFilter[] current;
+    // 재생성 중인 필터 -> 재생성 도중 들어온 add 도 함께 반영
+    private volatile BloomFilter[] building;
+    // add 와 필터 교체 (current / building) 를 묶는 락
+    // -> 교체 직전에 이전 current 만 읽은 add 가 버려지는 필터에만 들어가는 경우 방지
+    private final Object swapLock = new Object();
+
+    public MemberAvailabilityFilter(MemberRepository memberRepository,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    RedisMessageListenerContainer redisMessageListenerContainer,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${member.availability.expected-insertions:1000000}") long expectedInsertions,
+                                    @Value("${member.availability.fpp:0.01}") double fpp) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+
+        for (Field field : Field.values()) {
+            Gauge.builder("member.availability.bloom.fpp", this, f -> f.expectedFpp(field))
+                    .tag("field", field.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADD_CHANNEL));
+    }
+
+    /**
+     * @return false 면 사용 가능 확정, true 면 DB 확인 필요
+     */
+    public boolean mightExist(Field field, String value) {
+        BloomFilter[] filters = current;
+        if (filters == null) {
+            count(field, "bypass");
+            return true;
+        }
+        boolean maybe = filters[field.ordinal()].mightContain(normalize(value));
+        if (!maybe) {
+            count(field, "negative");
+        }
+        return maybe;
+    }
+
+    // mightExist 가 true 였을 때 DB 확인 결과 기록 -> 오탐률 = false_positive / (positive + false_positive)
+    public void recordDbResult(Field field, boolean exists) {
+        count(field, exists ? "positive" : "false_positive");
+    }
+
+    // 커밋 후 호출 -> 이 노드 반영 + 다른 노드에 전파
+    public void addAndPublish(Field field, String value) {
+        if (value == null) {
+            return;
+        }
+        add(field, value);
+        try {
+            redisTemplate.convertAndSend(ADD_CHANNEL, field.name() + "|" + value);
+        } catch (DataAccessException e) {
+            // 전파 실패 시 다른 노드는 DB 의 unique 검증 / 다음 재생성에서 보정
+            log.warn("[MemberAvailabilityFilter] add 전파 실패, field = {}, {}", field, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 2);
+        if (parts.length < 2) {
+            return;
+        }
+        try {
+            add(Field.valueOf(parts[0]), parts[1]);
+        } catch (IllegalArgumentException e) {
+            log.warn("[MemberAvailabilityFilter] 잘못된 add 메시지 = {}", body);
+        }
+    }
+
+    // 시작 직후 + 하루 한 번 DB 기준으로 다시 생성
+    @Scheduled(initialDelay = 0, fixedDelayString = "${member.availability.rebuild-interval-ms:86400000}")
+    public void rebuild() {
+        BloomFilter[] next = newFilters();
+        synchronized (swapLock) {
+            building = next;
+        }
+        try {
+            Long lastId = 0L;
+            long total = 0;
+            while (true) {
+                List<Object[]> rows = memberRepository.findIdentitiesAfter(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    addTo(next, Field.EMAIL, (String) row[1]);
+                    addTo(next, Field.NICKNAME, (String) row[2]);
+                }
+                total += rows.size();
+                if (rows.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+            synchronized (swapLock) {
+                current = next;
+                building = null;
+            }
+            log.info("[MemberAvailabilityFilter] 재생성 완료, members = {}", total);
+        } catch (DataAccessException e) {
+            // 실패하면 기존 필터 유지 (없으면 계속 DB 조회)
+            log.warn("[MemberAvailabilityFilter] 재생성 실패 = {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                building = null;
+            }
+        }
+    }
+
+    // 가입 / 닉네임 변경 때만 호출되므로 락 비용은 무시할 수준 (조회 mightExist 는 락 없음)
+    private void add(Field field, String value) {
+        synchronized (swapLock) {
+            BloomFilter[] filters = current;
+            if (filters != null) {
+                addTo(filters, field, value);
+            }
+            BloomFilter[] rebuilding = building;
+            if (rebuilding != null) {
+                addTo(rebuilding, field, value);
+            }
+        }
+    }
+
+    private void addTo(BloomFilter[] filters, Field field, String value) {
+        if (value != null) {
+            filters[field.ordinal()].add(normalize(value));
+        }
+    }
+
+    private BloomFilter[] newFilters() {
+        BloomFilter[] filters = new BloomFilter[Field.values().length];
+        for (Field field : Field.values()) {
+            filters[field.ordinal()] = new BloomFilter(expectedInsertions, fpp);
+        }
+        return filters;
+    }
+
+    private double expectedFpp(Field field) {
+        BloomFilter[] filters = current;
+        return filters == null ? 1.0 : filters[field.ordinal()].expectedFpp();
+    }
+
+    private void count(Field field, String result) {
+        Counter.builder("member.availability.check")
+                .tag("field", field.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,19 +5,23 @@ import com.palette.palettepetsback.config.Mail.RegisterMail;
 import com.palette.palettepetsback.config.SingleTon.Singleton;
 import com.palette.palettepetsback.config.Storage.NCPObjectStorageService;
 import com.palette.palettepetsback.config.exceptions.NoSuchPetException;
+import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.feed.dto.FeedListResponse;
 import com.palette.palettepetsback.feed.dto.FeedResponse;
-import com.palette.palettepetsback.feed.entity.Feed;
-import com.palette.palettepetsback.feed.repository.FeedRepository;
 import com.palette.palettepetsback.member.dto.*;
 import com.palette.palettepetsback.member.entity.Follow;
 import com.palette.palettepetsback.member.entity.Member;
+import com.palette.palettepetsback.member.event.MemberIdentityAddedEvent;
+import com.palette.palettepetsback.member.event.MemberProfileChangedEvent;
+import com.palette.palettepetsback.member.service.MemberAvailabilityFilter.Field;
+import com.palette.palettepetsback.member.repository.FollowRepository;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import com.palette.palettepetsback.pet.dto.request.ImgPetRegistryDto;
 import com.palette.palettepetsback.pet.entity.ImgPet;
 import com.palette.palettepetsback.pet.entity.Pet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,23 +40,50 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final RegisterMail registerMail;
     private final NCPObjectStorageService objectStorageService;
-    private final FollowService followService;
-    private final FeedRepository feedRepository;
-
-    //이메일 중복확인
+    private final FollowRepository followRepository;
+    private final MemberStatsService memberStatsService;
+    private final MemberSummaryService memberSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+
+    //이메일 중복확인 -> Bloom filter 가 "없음" 이면 DB 조회 X
+    @Transactional(readOnly = true)
     public boolean checkEmailDuplicate(String email) {
-        return memberRepository.existsByEmail(email);
+        if (!memberAvailabilityFilter.mightExist(Field.EMAIL, email)) {
+            return false;
+        }
+        boolean exists = memberRepository.existsByEmail(email);
+        memberAvailabilityFilter.recordDbResult(Field.EMAIL, exists);
+        return exists;
     }
-    //닉네임 중복확인
+    //닉네임 중복확인 -> Bloom filter 가 "없음" 이면 DB 조회 X
+    @Transactional(readOnly = true)
     public boolean checkNicknameDuplicate(String nickname) {
+        if (!memberAvailabilityFilter.mightExist(Field.NICKNAME, nickname)) {
+            return false;
+        }
+        boolean exists = memberRepository.existsByMemberNickname(nickname);
+        memberAvailabilityFilter.recordDbResult(Field.NICKNAME, exists);
+        return exists;
+    }
+
+    // 쓰기 직전 중복 확인 (회원가입 / 닉네임 변경 / 비밀번호 찾기) -> 항상 DB 조회
+    // Bloom filter 는 노드별 + pub/sub 로 늦게 반영될 수 있어 입력 중 중복확인 버튼에만 사용
+    @Transactional(readOnly = true)
+    public boolean existsEmail(String email) {
+        return memberRepository.existsByEmail(email);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsNickname(String nickname) {
         return memberRepository.existsByMemberNickname(nickname);
     }
 
     //회원가입
     public void join(JoinRequest req) {
         String encodedPassword = passwordEncoder.encode(req.getPassword());
-        memberRepository.save(req.toEntity(encodedPassword));
-
+        Member member = memberRepository.save(req.toEntity(encodedPassword));
+        eventPublisher.publishEvent(new MemberIdentityAddedEvent(member.getEmail(), member.getMemberNickname()));
     }
 
 
@@ -81,10 +112,13 @@ public class MemberService {
         Optional<Member> optionalMember = memberRepository.findByMemberId(memberId);
 
         optionalMember.ifPresent(member -> {
+            String oldNickname = member.getMemberNickname();
             // 비밀번호 암호화
             member.updateNickname(nicknameRequest.getNickName());
 
             memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId, oldNickname));
+            eventPublisher.publishEvent(new MemberIdentityAddedEvent(null, member.getMemberNickname()));
         });
     }
 
@@ -141,6 +175,9 @@ public class MemberService {
             memberRepository.save(member);
         });
 
+        // 비밀번호 변경과 같은 트랜잭션에서 outbox 저장 -> 커밋된 경우에만 발송
+        registerMail.mailSend(responseDTO);
+
         return responseDTO;
 
     }
@@ -157,42 +194,34 @@ public class MemberService {
             member.saveProfile(dto.getImgUrl());
 
             memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getMemberId(), member.getMemberNickname()));
         });
 
     }
 
-    public MyPageRespons getMyPage(Long memberId,String nickname) {
-        Optional<Member> optionalMember=memberRepository.findByMemberNickname(nickname);
-        Optional<Member> lealMember =memberRepository.findByMemberId(memberId);
-        List<FollowResponse> follow = followService.getFollowerList(nickname,memberId);
+    public MyPageRespons getMyPage(AuthInfoDto authInfoDto,String nickname) {
+        // 닉네임 / 이미지만 필요하므로 회원 요약 캐시 사용 (Member 조회 X)
+        Optional<MemberSummary> optionalMember = memberSummaryService.findByNickname(nickname);
         MyPageRespons myPageRespons = new MyPageRespons();
 
-
-
         optionalMember.ifPresent(member -> {
-            List<FollowResponse> list_er = followService.getFollowerList(member.getMemberNickname(), memberId);
-            List<FollowResponse> list_ing = followService.getFollowingList(member.getMemberNickname(), memberId);
-            List<Feed> list_feed = feedRepository.findByMemberId(member);
-            myPageRespons.setNickname(member.getMemberNickname());
-            myPageRespons.setImg(member.getMemberImage());
-            myPageRespons.setFollower(list_er.size());
-            myPageRespons.setFollowing(list_ing.size());
-            myPageRespons.setFeed(list_feed.size());
-            myPageRespons.setMemberId(lealMember.get().getMemberNickname());
-
-            if(follow.isEmpty()){
-                myPageRespons.setFollowTF(true);
-            }else{
-                for (FollowResponse f : follow) {
-                    if(f.getNickname().equals(lealMember.get().getMemberNickname())){
-                        myPageRespons.setFollowTF(false);
-                    }else{
-                        myPageRespons.setFollowTF(true);
-                    }
-                }
-            }
-
-
+            // 팔로워 / 팔로잉 / 피드 수 -> 목록을 불러오지 않고 카운터만 조회
+            MemberStatsDto stats = memberStatsService.getStats(member.getMemberId());
+            myPageRespons.setNickname(member.getNickname());
+            myPageRespons.setImg(member.getImage());
+            myPageRespons.setFollower((int) stats.getFollowerCount());
+            myPageRespons.setFollowing((int) stats.getFollowingCount());
+            myPageRespons.setFeed((int) stats.getFeedCount());
+            // 로그인 회원은 닉네임만 필요하므로 회원 요약 캐시 사용 (토큰 claims 는 재발급 / 닉네임 변경 후 없거나 이전 값)
+            myPageRespons.setMemberId(memberSummaryService.findById(authInfoDto.getMemberId())
+                    .map(MemberSummary::getNickname)
+                    .orElse(null));
+
+            // 내가 이 회원을 팔로우하고 있으면 false (팔로우 버튼 숨김) -> EXISTS 한 번
+            boolean following = followRepository.existsByFollowerIdAndFollowingId(
+                    memberRepository.getReferenceById(member.getMemberId()),
+                    memberRepository.getReferenceById(authInfoDto.getMemberId()));
+            myPageRespons.setFollowTF(!following);
         });
 
         return myPageRespons;
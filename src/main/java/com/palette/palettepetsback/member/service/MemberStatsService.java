@@ -0,0 +1,63 @@
+package com.palette.palettepetsback.member.service;
+
+import com.palette.palettepetsback.feed.repository.FeedRepository;
+import com.palette.palettepetsback.member.dto.MemberStatsDto;
+import com.palette.palettepetsback.member.repository.FollowRepository;
+import com.palette.palettepetsback.member.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 프로필 카운터
+ * - 조회 : redis hash 1회, 없으면 DB count 3회 후 redis 에 채움
+ * - 팔로우 / 언팔로우 / 피드 작성 / 삭제 커밋 후 무효화 (MemberStatsEventListener)
+ * - redis 장애 시 DB count 결과를 그대로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final FollowRepository followRepository;
+    private final FeedRepository feedRepository;
+
+    public MemberStatsDto getStats(Long memberId) {
+        long version;
+        try {
+            MemberStatsDto cached = memberStatsRepository.find(memberId);
+            if (cached != null) {
+                return cached;
+            }
+            // count 도중 무효화되면 채우지 않도록 count 전에 버전 확인
+            version = memberStatsRepository.version(memberId);
+        } catch (DataAccessException e) {
+            log.warn("[MemberStats] redis 조회 실패 -> DB count, memberId = {}", memberId);
+            return countFromDb(memberId);
+        }
+
+        MemberStatsDto stats = countFromDb(memberId);
+        try {
+            memberStatsRepository.init(memberId, stats, version);
+        } catch (DataAccessException e) {
+            log.warn("[MemberStats] redis 저장 실패, memberId = {}, {}", memberId, e.getMessage());
+        }
+        return stats;
+    }
+
+    // 팔로우 / 피드 변경 커밋 후 호출
+    public void invalidate(Long memberId) {
+        memberStatsRepository.invalidate(memberId);
+    }
+
+    private MemberStatsDto countFromDb(Long memberId) {
+        return new MemberStatsDto(
+                followRepository.countFollowers(memberId),
+                followRepository.countFollowings(memberId),
+                feedRepository.countByMemberId(memberId));
+    }
+}
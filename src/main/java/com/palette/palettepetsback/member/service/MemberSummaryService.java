@@ -0,0 +1,50 @@
+package com.palette.palettepetsback.member.service;
+
+import com.palette.palettepetsback.member.dto.MemberSummary;
+import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.member.repository.MemberSummaryCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 회원 요약 정보 조회 (로컬 -> redis -> DB 순서)
+ * 닉네임 / 이미지만 필요한 화면에서 Member 엔티티 조회 대신 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberSummaryService {
+
+    private final MemberRepository memberRepository;
+    private final MemberSummaryCache memberSummaryCache;
+
+    public Optional<MemberSummary> findById(Long memberId) {
+        MemberSummary cached = memberSummaryCache.find(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // DB 조회 도중 변경(evict) 되면 조회 결과를 캐시에 넣지 않음
+        MemberSummaryCache.Stamp stamp = memberSummaryCache.stamp(memberId);
+        Optional<MemberSummary> summary = memberRepository.findSummaryByMemberId(memberId);
+        summary.ifPresent(value -> memberSummaryCache.put(value, stamp));
+        return summary;
+    }
+
+    public Optional<Long> findIdByNickname(String nickname) {
+        Long cached = memberSummaryCache.findId(nickname);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> memberId = memberRepository.findMemberIdByMemberNickname(nickname);
+        // id -> 요약 정보까지 함께 채워 둠 (닉네임으로 들어온 프로필 화면은 바로 요약 정보도 필요)
+        memberId.ifPresent(this::findById);
+        return memberId;
+    }
+
+    public Optional<MemberSummary> findByNickname(String nickname) {
+        return findIdByNickname(nickname).flatMap(this::findById);
+    }
+}
@@ -1,20 +1,21 @@
 package com.palette.palettepetsback.notification.controller;
 
-import com.palette.palettepetsback.config.aop.notification.NeedNotification;
-import com.palette.palettepetsback.config.aop.notification.NotificationThreadLocal;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import com.palette.palettepetsback.notification.dto.response.MemberIssueResponse;
 import com.palette.palettepetsback.notification.service.MemberIssueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -44,6 +45,32 @@ public class MemberIssueController {
         return ResponseEntity.ok(result);
     }
 
+    // 일반 알림함 페이지 조회 (커서 기반) -> 첫 페이지는 커서 없이 요청
+    @GetMapping("/api/issues/inbox")
+    public ResponseEntity<CursorSlice<MemberIssueResponse>> getUnreadIssuePage(
+            @RequestParam(value = "cursorCreatedAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) final Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") final int size,
+            @JwtAuth final AuthInfoDto authInfoDto) {
+
+        return ResponseEntity.ok(memberIssueService.getUnreadMemberIssuePage(authInfoDto.getMemberId(), cursorCreatedAt, cursorId, size));
+    }
+
+    // 안 읽은 알림 수 (뱃지)
+    @GetMapping("/api/issues/count")
+    public ResponseEntity<Long> getUnreadIssueCount(@JwtAuth final AuthInfoDto authInfoDto) {
+        return ResponseEntity.ok(memberIssueService.countUnreadMemberIssue(authInfoDto.getMemberId()));
+    }
+
+    // 일반 알림 모두 읽음 표시하기
+    @PutMapping("/api/issues")
+    public ResponseEntity<Integer> readAllIssues(@JwtAuth final AuthInfoDto authInfo) {
+        int updated = memberIssueService.readAllMemberIssue(authInfo.getMemberId());
+        log.info("회원 {} : 알림 {}건 모두 읽음 표시", authInfo.getMemberId(), updated);
+        return ResponseEntity.ok(updated);
+    }
+
     // 일반 알림 읽음 표시하기
     @PutMapping("/api/issues/{memberIssueId}")
     public ResponseEntity<Boolean> readIssue(@PathVariable("memberIssueId") final Long memberIssueId,
@@ -54,25 +81,22 @@ public class MemberIssueController {
     }
 
     @GetMapping("/sse/test1")
-    @NeedNotification
     public ResponseEntity<?> test1() {
 
         String coreFeatures = "emitter test";
 
         Member member = memberRepository.findById(1L).orElseThrow(() -> new RuntimeException("zz"));
         Long memberId = member.getMemberId();
-        NotificationThreadLocal.setNotificationInfo(memberId, "첫 알람 테스트", 777);
+        memberIssueService.sendNotification(memberId, "첫 알람 테스트", 777);
 
         return ResponseEntity.ok(coreFeatures);
     }
 
     @GetMapping("/sse/test2")
-    @NeedNotification
     public ResponseEntity<?> test2() {
 
         String coreFeatures = "emitter test22";
-        // 횡단 관심사 설정
-        NotificationThreadLocal.setNotificationInfo(1L, "두번째 알람 테스트", 999);
+        memberIssueService.sendNotification(1L, "두번째 알람 테스트", 999);
 
         return ResponseEntity.ok(coreFeatures);
     }
@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "member_issue")
+@Table(name = "member_issue", indexes = {
+        // 안 읽은 알림함 페이지 / 카운트 조회용
+        @Index(name = "idx_member_issue_receiver_read_created", columnList = "created_who, is_read, created_at")
+})
 @ToString(exclude = {"receiver"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -0,0 +1,22 @@
+package com.palette.palettepetsback.notification.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 회원 알림 도메인 이벤트
+ * - 서비스 트랜잭션 안에서 발행 -> 커밋 이후 NotificationEventListener 가 비동기로 처리
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class NotificationEvent {
+
+    private final Long receiverId;
+    private final String issueContent;
+    /**
+     * 0 : 연결, 1 : 채팅요청, 2 : 글 알람, 3 : 댓글 알람, 4.거래완료...
+     */
+    private final Integer issueCode;
+}
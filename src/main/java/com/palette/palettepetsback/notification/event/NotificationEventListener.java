@@ -0,0 +1,29 @@
+package com.palette.palettepetsback.notification.event;
+
+import com.palette.palettepetsback.notification.service.MemberIssueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final MemberIssueService memberIssueService;
+
+    // 발행한 트랜잭션이 커밋된 경우에만, 요청 스레드와 분리된 알림 스레드에서 전송
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotification(NotificationEvent event) {
+        log.info("notification event = {}", event);
+        try {
+            memberIssueService.sendNotification(event.getReceiverId(), event.getIssueContent(), event.getIssueCode());
+        } catch (Exception e) {
+            log.error("Failed to handle notification event = {}", event, e);
+        }
+    }
+}
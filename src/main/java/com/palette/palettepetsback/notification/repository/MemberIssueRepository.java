@@ -2,10 +2,13 @@ package com.palette.palettepetsback.notification.repository;
 
 import com.palette.palettepetsback.notification.domain.MemberIssue;
 import com.palette.palettepetsback.notification.dto.response.MemberIssueResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MemberIssueRepository extends JpaRepository<MemberIssue, Long> {
@@ -17,4 +20,42 @@ public interface MemberIssueRepository extends JpaRepository<MemberIssue, Long>
             "where mi.receiver.memberId = :memberId and mi.isRead = false " +
             "order by mi.createdAt desc ")
     List<MemberIssueResponse> findAllByMemberId(@Param("memberId") Long memberId);
+
+    // 안 읽은 알림 첫 페이지 (receiver_id, is_read, created_at) 인덱스 사용
+    @Query("select new com.palette.palettepetsback.notification.dto.response.MemberIssueResponse(" +
+            "   mi.id, r.memberId, r.memberNickname, mi.createdAt, mi.issueContent, mi.issueCode, mi.isRead" +
+            ")" +
+            "from MemberIssue mi join mi.receiver r " +
+            "where r.memberId = :memberId and mi.isRead = false " +
+            "order by mi.createdAt desc, mi.id desc ")
+    List<MemberIssueResponse> findUnreadFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 안 읽은 알림 다음 페이지 -> 커서(createdAt, id) 이후의 데이터만 조회 (offset 미사용)
+    @Query("select new com.palette.palettepetsback.notification.dto.response.MemberIssueResponse(" +
+            "   mi.id, r.memberId, r.memberNickname, mi.createdAt, mi.issueContent, mi.issueCode, mi.isRead" +
+            ")" +
+            "from MemberIssue mi join mi.receiver r " +
+            "where r.memberId = :memberId and mi.isRead = false " +
+            "and (mi.createdAt < :cursorCreatedAt or (mi.createdAt = :cursorCreatedAt and mi.id < :cursorId)) " +
+            "order by mi.createdAt desc, mi.id desc ")
+    List<MemberIssueResponse> findUnreadAfterCursor(@Param("memberId") Long memberId,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    // 안 읽은 알림 수 -> redis 카운터가 없을 때만 사용
+    @Query("select count(mi) from MemberIssue mi where mi.receiver.memberId = :memberId and mi.isRead = false")
+    long countUnreadByMemberId(@Param("memberId") Long memberId);
+
+    // 알림 하나 읽음 처리 -> 본인 알림 + 안 읽은 상태일 때만 변경 (변경된 row 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberIssue mi set mi.isRead = true " +
+            "where mi.id = :memberIssueId and mi.receiver.memberId = :memberId and mi.isRead = false")
+    int markRead(@Param("memberIssueId") Long memberIssueId, @Param("memberId") Long memberId);
+
+    // 모두 읽음 처리 -> 단일 bulk update
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberIssue mi set mi.isRead = true " +
+            "where mi.receiver.memberId = :memberId and mi.isRead = false")
+    int markAllRead(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,67 @@
+package com.palette.palettepetsback.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 안 읽은 알림 수 카운터 (redis)
+ * - key : memberIssue:unread:{memberId}
+ * - 키가 있을 때만 INCR / DECR -> 키가 없으면 다음 조회 시 DB count 로 다시 채움
+ * - TTL 을 두어서 롤백 등으로 어긋난 값도 시간이 지나면 DB 기준으로 복구됨
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UnreadIssueCountRepository {
+
+    private static final String KEY_PREFIX = "memberIssue:unread:";
+    private static final long TTL_SECONDS = 60 * 60L;
+
+    // 키가 존재할 때만 증감, 0 미만으로 내려가지 않도록
+    private static final RedisScript<Long> ADD_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end " +
+            "return v",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Long find(Long memberId) {
+        String value = redisTemplate.opsForValue().get(key(memberId));
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    // DB 에서 센 값으로 초기화 -> 이미 다른 요청이 채웠다면 덮어쓰지 않음
+    public void init(Long memberId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(key(memberId), String.valueOf(count), TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void increment(Long memberId) {
+        add(memberId, 1);
+    }
+
+    public void decrement(Long memberId) {
+        add(memberId, -1);
+    }
+
+    // 모두 읽음 처리 후 0 으로
+    public void reset(Long memberId) {
+        redisTemplate.opsForValue().set(key(memberId), "0", TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void add(Long memberId, long delta) {
+        redisTemplate.execute(ADD_IF_EXISTS, List.of(key(memberId)), String.valueOf(delta));
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
@@ -1,22 +1,25 @@
 package com.palette.palettepetsback.notification.service;
 
 import com.palette.palettepetsback.config.exceptions.NoMemberExistException;
+import com.palette.palettepetsback.config.pagination.CursorSlice;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
 import com.palette.palettepetsback.notification.domain.MemberIssue;
 import com.palette.palettepetsback.notification.dto.response.MemberIssueResponse;
 import com.palette.palettepetsback.notification.repository.EmitterRepository;
 import com.palette.palettepetsback.notification.repository.MemberIssueRepository;
+import com.palette.palettepetsback.notification.repository.UnreadIssueCountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -29,8 +32,10 @@ public class MemberIssueService {
     private final MemberIssueRepository memberIssueRepository;
     private final EmitterRepository emitterRepository;
     private final MemberRepository memberRepository;
+    private final UnreadIssueCountRepository unreadIssueCountRepository;
 
     private static final Long DEFAULT_TIMEOUT = 45 * 1000L;
+    private static final int MAX_PAGE_SIZE = 50;
 
     public SseEmitter connect(final Long memberId, final String lastEventId) {
 
@@ -85,8 +90,8 @@ public class MemberIssueService {
      * @param issueCode
      */
     // 다른 서비스 클래스에서 이벤트가 발생했을 때, 알림을 보내는 메서드
+    // -> 서비스에서 NotificationEvent 발행 시 커밋 이후 NotificationEventListener 가 비동기로 호출
     @CacheEvict(value = "memberIssue", key = "#memberId", cacheManager = "cacheManager")
-    @Async
     @Transactional
     public void sendNotification(final Long memberId, final String issueContent, final Integer issueCode) {
 
@@ -100,6 +105,7 @@ public class MemberIssueService {
                 .build();
 
         MemberIssue memberIssue = memberIssueRepository.save(notification);
+        unreadIssueCountRepository.increment(memberId);
         String eventId = memberIssue.getReceiver().getMemberId() + "_" + System.currentTimeMillis();
 
         // 유저의 모든 SseEmitter 가져오기
@@ -124,11 +130,49 @@ public class MemberIssueService {
     @Transactional
     public void readMemberIssue(Long memberIssueId, final Long memberId) {
 
-        MemberIssue memberIssue = memberIssueRepository.findById(memberIssueId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 알림입니다"));
+        // 해당 알림을 읽음표시 -> 실제로 안 읽음 -> 읽음으로 바뀐 경우에만 카운터 감소
+        int updated = memberIssueRepository.markRead(memberIssueId, memberId);
+        if (updated == 0) {
+            if (!memberIssueRepository.existsById(memberIssueId)) {
+                throw new RuntimeException("존재하지 않는 알림입니다");
+            }
+            return;
+        }
+        unreadIssueCountRepository.decrement(memberId);
+    }
+
+    // 회원 알림 모두 읽음 표시 -> bulk update 한 번
+    @CacheEvict(value = "memberIssue", key = "#memberId", cacheManager = "cacheManager")
+    @Transactional
+    public int readAllMemberIssue(final Long memberId) {
+        int updated = memberIssueRepository.markAllRead(memberId);
+        unreadIssueCountRepository.reset(memberId);
+        return updated;
+    }
+
+    // 안 읽은 알림 수 (뱃지) -> 목록을 불러오지 않고 카운터만 조회
+    public long countUnreadMemberIssue(final Long memberId) {
+        Long count = unreadIssueCountRepository.find(memberId);
+        if (count != null) {
+            return count;
+        }
+        long dbCount = memberIssueRepository.countUnreadByMemberId(memberId);
+        unreadIssueCountRepository.init(memberId, dbCount);
+        return dbCount;
+    }
 
-        // 해당 알림을 읽음표시
-        memberIssue.changeIsRead();
+    // 안 읽은 알림함 페이지 조회 -> (createdAt, id) 커서 기반
+    public CursorSlice<MemberIssueResponse> getUnreadMemberIssuePage(final Long memberId,
+                                                                     final LocalDateTime cursorCreatedAt,
+                                                                     final Long cursorId,
+                                                                     int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = CursorSlice.limit(pageSize);
+
+        List<MemberIssueResponse> issues = (cursorCreatedAt == null || cursorId == null)
+                ? memberIssueRepository.findUnreadFirstPage(memberId, limit)
+                : memberIssueRepository.findUnreadAfterCursor(memberId, cursorCreatedAt, cursorId, limit);
+        return CursorSlice.of(issues, pageSize, MemberIssueResponse::getCreatedAt, MemberIssueResponse::getMemberIssueId);
     }
 
     // 회원 안 읽은 알림들 불러오기
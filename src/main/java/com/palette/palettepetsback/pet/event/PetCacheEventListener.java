@@ -0,0 +1,22 @@
+package com.palette.palettepetsback.pet.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 펫 변경만 회원별 펫 목록 캐시 (memberPets) 에서 제거
+ * (커밋 전에 지우면 그 사이 다른 요청이 이전 목록을 다시 채울 수 있음)
+ */
+@Slf4j
+@Component
+public class PetCacheEventListener {
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @CacheEvict(value = "memberPets", key = "#event.memberId", cacheManager = "cacheManager")
+    public void handlePetChanged(PetChangedEvent event) {
+        log.debug("memberPets cache evicted, memberId = {}", event.getMemberId());
+    }
+}
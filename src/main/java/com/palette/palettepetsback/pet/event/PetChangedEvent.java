@@ -0,0 +1,14 @@
+package com.palette.palettepetsback.pet.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 펫 / 펫 이미지 등록, 수정, 삭제 이벤트 -> 커밋 후 회원별 펫 목록 캐시 무효화
+ */
+@Getter
+@RequiredArgsConstructor
+public class PetChangedEvent {
+    // 펫 주인 id
+    private final Long memberId;
+}
@@ -11,13 +11,12 @@ import java.util.Optional;
 
 public interface ImgPetRepository extends JpaRepository<ImgPet, Long> {
 
-    // 마이페이지용 회원의 반려 동물의 모든 이미지 리스트 쿼리
+    // 마이페이지용 회원의 반려 동물의 모든 이미지 리스트 쿼리 (pet.member_id 로 바로 조회, member join 없음)
     @Query("select new com.palette.palettepetsback.pet.dto.response.ImgPetResponseDto(ip.id, ip.imgUrl, p.id) " +
             "from ImgPet ip " +
             "join ip.pet p " +
-            "join p.member m " +
-            "where m.memberNickname = :memberNickname")
-    List<ImgPetResponseDto> findAllByMemberId(@Param("memberNickname") String memberNickname);
+            "where p.member.memberId = :memberId")
+    List<ImgPetResponseDto> findAllByMemberId(@Param("memberId") Long memberId);
 
     List<ImgPet> findAllByPetId(Long petId);
     Optional<ImgPet> findByImgUrl(String imgUrl);
@@ -0,0 +1,18 @@
+package com.palette.palettepetsback.pet.repository;
+
+import com.palette.palettepetsback.pet.dto.response.PetResponseDto;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PetRepositoryCustom {
+
+    // 회원의 펫 목록 + 펫 이미지 (쿼리 2번)
+    List<PetResponseDto> findPetResponsesByMemberId(Long memberId);
+
+    // 펫 한 건 + 펫 이미지 (쿼리 2번)
+    Optional<PetResponseDto> findPetResponseById(Long petId);
+
+    // 펫 주인 id (펫 엔티티 / 회원 로딩 X)
+    Optional<Long> findOwnerIdByPetId(Long petId);
+}
@@ -0,0 +1,94 @@
+package com.palette.palettepetsback.pet.repository;
+
+import com.palette.palettepetsback.pet.dto.response.ImgPetResponseDto;
+import com.palette.palettepetsback.pet.dto.response.PetResponseDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.palette.palettepetsback.pet.entity.QImgPet.imgPet;
+import static com.palette.palettepetsback.pet.entity.QPet.pet;
+
+/**
+ * 펫 조회 QueryDSL
+ * - 펫 정보는 dto 로 바로 projection (Member 조인 X -> created_who FK 컬럼만 사용)
+ * - 펫 이미지는 펫 id IN 쿼리 한 번으로 모아서 붙임 (펫마다 petImageList 지연 로딩 X)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PetRepositoryImpl implements PetRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PetResponseDto> findPetResponsesByMemberId(Long memberId) {
+        List<PetResponseDto> pets = selectPets(pet.member.memberId.eq(memberId));
+        attachImages(pets);
+        return pets;
+    }
+
+    @Override
+    public Optional<PetResponseDto> findPetResponseById(Long petId) {
+        List<PetResponseDto> pets = selectPets(pet.id.eq(petId));
+        attachImages(pets);
+        return pets.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Long> findOwnerIdByPetId(Long petId) {
+        return Optional.ofNullable(
+                queryFactory.select(pet.member.memberId)
+                        .from(pet)
+                        .where(pet.id.eq(petId))
+                        .fetchOne()
+        );
+    }
+
+    private List<PetResponseDto> selectPets(BooleanExpression condition) {
+        // 캐시 (Jackson) 역직렬화 가능한 ArrayList 로 반환
+        return new ArrayList<>(queryFactory
+                .select(Projections.fields(PetResponseDto.class,
+                        pet.id.as("petId"),
+                        pet.member.memberId.as("createdWho"),
+                        pet.petName,
+                        pet.petImage,
+                        pet.petCategory1,
+                        pet.petCategory2,
+                        pet.petBirth,
+                        pet.petGender,
+                        pet.petWeight))
+                .from(pet)
+                .where(condition)
+                .orderBy(pet.id.asc())
+                .fetch());
+    }
+
+    private void attachImages(List<PetResponseDto> pets) {
+        if (pets.isEmpty()) {
+            return;
+        }
+        List<Long> petIds = pets.stream().map(PetResponseDto::getPetId).toList();
+
+        Map<Long, List<ImgPetResponseDto>> imagesByPetId = queryFactory
+                .select(Projections.constructor(ImgPetResponseDto.class,
+                        imgPet.id,
+                        imgPet.imgUrl,
+                        imgPet.pet.id))
+                .from(imgPet)
+                .where(imgPet.pet.id.in(petIds))
+                .orderBy(imgPet.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(ImgPetResponseDto::getPetId, Collectors.toCollection(ArrayList::new)));
+
+        pets.forEach(dto -> dto.setPetImgList(imagesByPetId.getOrDefault(dto.getPetId(), new ArrayList<>())));
+    }
+}
@@ -5,6 +5,7 @@ import com.palette.palettepetsback.config.Storage.NCPObjectStorageService;
 import com.palette.palettepetsback.config.exceptions.NoSuchPetException;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
 import com.palette.palettepetsback.pet.dto.request.ImgPetRegistryDto;
 import com.palette.palettepetsback.pet.dto.request.PetRegistryDto;
 import com.palette.palettepetsback.pet.dto.request.PetUpdateDto;
@@ -12,17 +13,17 @@ import com.palette.palettepetsback.pet.dto.response.ImgPetResponseDto;
 import com.palette.palettepetsback.pet.dto.response.PetResponseDto;
 import com.palette.palettepetsback.pet.entity.ImgPet;
 import com.palette.palettepetsback.pet.entity.Pet;
+import com.palette.palettepetsback.pet.event.PetChangedEvent;
 import com.palette.palettepetsback.pet.repository.ImgPetRepository;
 import com.palette.palettepetsback.pet.repository.PetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -32,9 +33,11 @@ import java.util.List;
 public class PetService {
 
     private final MemberRepository memberRepository;
+    private final MemberSummaryService memberSummaryService;
     private final PetRepository petRepository;
     private final ImgPetRepository imgPetRepository;
     private final NCPObjectStorageService objectStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 파일 저장
     @Transactional
@@ -76,6 +79,7 @@ public class PetService {
         );
 
         log.info("saved = {}", saved);
+        eventPublisher.publishEvent(new PetChangedEvent(member.getMemberId()));
 
         return saved.getId();
     }
@@ -92,6 +96,7 @@ public class PetService {
                         .pet(pet)
                         .build()
         );
+        eventPublisher.publishEvent(new PetChangedEvent(pet.getMember().getMemberId()));
 
         return saved.getId();
     }
@@ -108,6 +113,7 @@ public class PetService {
 
         // dirty checking
         pet.updatePet(dto);
+        eventPublisher.publishEvent(new PetChangedEvent(pet.getMember().getMemberId()));
     }
 
     // 펫 등록 정보 삭제 -> 물리적 삭제
@@ -118,6 +124,7 @@ public class PetService {
         String fileDeleted = fileDelete(pet.getPetImage());
         log.info("NCP Object Storage file deleted = {}", "pet/" + fileDeleted);
         petRepository.deleteById(petId); // JPA cascade 로 imgPet 에 연관된 이미지도 삭제
+        eventPublisher.publishEvent(new PetChangedEvent(pet.getMember().getMemberId()));
     }
 
     // 펫 등록 정보 -> 펫 이미지 삭제
@@ -128,81 +135,20 @@ public class PetService {
         String fileDeleted = fileDelete("pet/img/" + imgPet.getImgUrl());
         log.info("NCP Object Storage file deleted = {}", fileDeleted);
         imgPetRepository.deleteById(imgId);
+        eventPublisher.publishEvent(new PetChangedEvent(imgPet.getPet().getMember().getMemberId()));
     }
 
-    // todo queryDsl 최적화 할 수 있을 듯
-    // 펫 정보 가져오기 (한건)
+    // 펫 정보 가져오기 (한건) -> 펫 + 이미지 쿼리 2번
     public PetResponseDto findByPetId(Long petId) {
-
-        Pet pet = petRepository.findById(petId)
+        return petRepository.findPetResponseById(petId)
                 .orElseThrow(() -> new NoSuchPetException("pet not found"));
-
-        // 펫 이미지 dto 리스트 생성
-        ArrayList<ImgPetResponseDto> imgList = new ArrayList<>();
-        pet.getPetImageList().forEach(img ->
-            imgList.add(
-                    ImgPetResponseDto.builder()
-                            .imgPetId(img.getId())
-                            .imgUrl(img.getImgUrl())
-                            .petId(pet.getId())
-                            .build()
-            )
-        );
-
-        return PetResponseDto.builder()
-                .petId(pet.getId())
-                .createdWho(pet.getMember().getMemberId())
-                .petName(pet.getPetName())
-                .petImage(pet.getPetImage())
-                .petCategory1(pet.getPetCategory1())
-                .petCategory2(pet.getPetCategory2())
-                .petBirth(pet.getPetBirth())
-                .petGender(pet.getPetGender())
-                .petWeight(pet.getPetWeight())
-                .petImgList(imgList)
-                .build();
     }
 
-    // todo queryDsl 최적화 할 수 있을 듯
-    // 펫 정보 가져오기 (한 회원에 연결된 펫 List)
+    // 펫 정보 가져오기 (한 회원에 연결된 펫 List) -> 펫 목록 + 이미지 쿼리 2번, 회원별 캐싱
+    // 등록 / 수정 / 삭제 커밋 후 PetCacheEventListener 가 무효화
+    @Cacheable(value = "memberPets", key = "#memberId", cacheManager = "cacheManager")
     public List<PetResponseDto> findAllByMemberId(Long memberId) {
-
-        List<Pet> petList = petRepository.findByCreatedWho(memberId);
-        // 보낼 dto list 생성
-        List<PetResponseDto> petResponseDtoList = new ArrayList<>();
-
-        petList.forEach(pet -> {
-            // 하나의 펫 정보에 들어갈 펫 이미지 리스트
-            ArrayList<ImgPetResponseDto> imgPetList = new ArrayList<>();
-            // 펫 정보에 들어갈 이미지 리스트들 추출
-            pet.getPetImageList().forEach(img -> {
-                imgPetList.add(
-                        ImgPetResponseDto.builder()
-                                .imgPetId(img.getId())
-                                .imgUrl(img.getImgUrl())
-                                .petId(img.getPet().getId())
-                                .build()
-                );
-            });
-
-            // 펫 정보를 반환할 dto로 변환해서 리스트에 저장
-            PetResponseDto dto = PetResponseDto.builder()
-                    .petId(pet.getId())
-                    .createdWho(pet.getMember().getMemberId())
-                    .petName(pet.getPetName())
-                    .petImage(pet.getPetImage())
-                    .petCategory1(pet.getPetCategory1())
-                    .petCategory2(pet.getPetCategory2())
-                    .petBirth(pet.getPetBirth())
-                    .petGender(pet.getPetGender())
-                    .petWeight(pet.getPetWeight())
-                    .petImgList(imgPetList)
-                    .build();
-
-            petResponseDtoList.add(dto);
-        });
-
-        return petResponseDtoList;
+        return petRepository.findPetResponsesByMemberId(memberId);
     }
 
     public List<ImgPetResponseDto> findAllPetImgById(Long petId) {
@@ -213,17 +159,18 @@ public class PetService {
                 .toList();
     }
 
+    // 닉네임 -> id 는 회원 요약 캐시에서 조회, 없는 닉네임이면 빈 리스트
     public List<ImgPetResponseDto> findAllPetImg(String memberNickname) {
 
-        return imgPetRepository.findAllByMemberId(memberNickname);
+        return memberSummaryService.findIdByNickname(memberNickname)
+                .map(imgPetRepository::findAllByMemberId)
+                .orElseGet(List::of);
     }
 
-    // 회원 == 주인 체크 메서드 -> 캐싱
-//    @Cacheable(value = "checkIsMaster", key = "#checkingMemberId", cacheManager = "cacheManager")
+    // 회원 == 주인 체크 메서드 -> 주인 id 만 조회 (스칼라 쿼리 1번)
     public boolean checkIsMaster(Long petId, Long checkingMemberId) {
-        Pet pet = petRepository.findById(petId)
+        Long memberId = petRepository.findOwnerIdByPetId(petId)
                 .orElseThrow(() -> new NoSuchPetException("pet not found"));
-        Long memberId = pet.getMember().getMemberId();
         return memberId.equals(checkingMemberId);
     }
 }
@@ -0,0 +1,40 @@
+package com.palette.palettepetsback.report.controller;
+
+import com.palette.palettepetsback.report.dto.ReportAggregateRow;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.service.ReportModerationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 관리자용 신고 자동 숨김 검토 (/api/admin/** -> ADMIN 만)
+ * ex) GET    /api/admin/reports/hidden?type=ARTICLE
+ *     DELETE /api/admin/reports/hidden/ARTICLE/1  -> 숨김 해제
+ */
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+public class ReportAdminController {
+
+    private final ReportModerationService reportModerationService;
+
+    @GetMapping("/hidden")
+    public ResponseEntity<List<ReportAggregateRow>> getHidden(@RequestParam("type") ReportTargetType type) {
+        return ResponseEntity.ok(reportModerationService.findHidden(type));
+    }
+
+    @DeleteMapping("/hidden/{type}/{targetId}")
+    public ResponseEntity<String> unhide(@PathVariable("type") ReportTargetType type,
+                                         @PathVariable("targetId") Long targetId) {
+        reportModerationService.unhide(type, targetId);
+        return ResponseEntity.ok("숨김이 해제되었습니다.");
+    }
+}
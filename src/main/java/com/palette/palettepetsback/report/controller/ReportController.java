@@ -1,11 +1,8 @@
 package com.palette.palettepetsback.report.controller;
 
-import com.palette.palettepetsback.Article.articleWrite.service.ArticleWriteService;
 import com.palette.palettepetsback.config.jwt.AuthInfoDto;
 import com.palette.palettepetsback.config.jwt.jwtAnnotation.JwtAuth;
-import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.report.dto.MemberReportAddRequest;
-import com.palette.palettepetsback.report.entity.MemberReport;
 import com.palette.palettepetsback.report.service.MemberReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 public class ReportController {
 
     private final MemberReportService memberReportService;
-    private final ArticleWriteService articleWriteService;
     // 신고하는 사람의 Id
     @GetMapping("/getMemberId")
     public ResponseEntity<Long> getMemberId(@JwtAuth AuthInfoDto authInfoDto) {
@@ -29,13 +25,18 @@ public class ReportController {
     }
 
     @PostMapping("/addReport")
-    public ResponseEntity<String> addReport(@RequestBody MemberReportAddRequest memberReportAddRequest) {
+    public ResponseEntity<String> addReport(@RequestBody MemberReportAddRequest memberReportAddRequest,
+                                            @JwtAuth AuthInfoDto authInfoDto) {
         log.info("MemberReportAddRequest: {}", memberReportAddRequest);
+        // 신고자는 토큰 기준 (서로 다른 신고자 수로 자동 숨김을 판단하므로 body 값 사용 X)
+        memberReportAddRequest.setMemberId(authInfoDto.getMemberId());
 
-        //신고 등록
-        memberReportService.addReport(memberReportAddRequest);
-        //신고당한 게시글 신고수 증가
-        articleWriteService.incrementReportCount(memberReportAddRequest.getArticleId());
+        //신고 등록 -> 게시글 / 회원 신고 수는 커밋 후 redis 에서 집계, 배치로 저장
+        try {
+            memberReportService.addReport(memberReportAddRequest);
+        } catch (IllegalArgumentException e) { // 자기 자신 신고 / 신고 대상 회원의 게시글이 아님
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         return ResponseEntity.ok().body("신고가 완료되었습니다.");
     }
 
@@ -0,0 +1,17 @@
+package com.palette.palettepetsback.report.dto;
+
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * redis 집계 -> report_aggregate 배치 저장 한 줄
+ */
+@Getter
+@AllArgsConstructor
+public class ReportAggregateRow {
+    private final ReportTargetType targetType;
+    private final Long targetId;
+    private final long reportCount;
+    private final boolean hidden;
+}
@@ -0,0 +1,55 @@
+package com.palette.palettepetsback.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대상별 신고 집계 (redis 카운터를 배치로 저장)
+ * - report_count : 기간 내 서로 다른 신고자 수의 누적
+ * - hidden : 기준 인원 이상 신고되어 자동 숨김된 대상
+ * - reviewed_at : 관리자가 숨김을 해제한 시각 -> 그 이전에 읽은 redis 집계로는 다시 숨기지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "report_aggregate",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_report_aggregate_target", columnNames = {"target_type", "target_id"})
+        },
+        indexes = {
+                // 숨김 대상 조회 (목록 제외 / 시작 시 redis 복구)
+                @Index(name = "idx_report_aggregate_type_hidden", columnList = "target_type, hidden")
+        })
+public class ReportAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "report_aggregate_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 16)
+    private ReportTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "report_count", nullable = false)
+    private long reportCount;
+
+    @Column(name = "hidden", nullable = false)
+    private boolean hidden;
+
+    @Column(name = "hidden_at")
+    private LocalDateTime hiddenAt;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
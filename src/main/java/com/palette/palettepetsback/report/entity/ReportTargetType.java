@@ -0,0 +1,13 @@
+package com.palette.palettepetsback.report.entity;
+
+/**
+ * 신고 집계 대상
+ */
+public enum ReportTargetType {
+    ARTICLE, MEMBER;
+
+    // redis 키에 들어가는 이름
+    public String key() {
+        return name().toLowerCase();
+    }
+}
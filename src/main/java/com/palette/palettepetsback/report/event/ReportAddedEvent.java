@@ -0,0 +1,16 @@
+package com.palette.palettepetsback.report.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신고 저장 이벤트 -> 커밋 후 신고 집계 (redis 카운터)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReportAddedEvent {
+    private final Long reporterId;
+    private final Long reportedMemberId;
+    // 게시글 신고가 아니면 null
+    private final Long articleId;
+}
@@ -0,0 +1,33 @@
+package com.palette.palettepetsback.report.event;
+
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.service.ReportModerationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 신고만 집계 (롤백된 신고가 숨김 기준에 포함되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportAggregationEventListener {
+
+    private final ReportModerationService reportModerationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReportAdded(ReportAddedEvent event) {
+        try {
+            if (event.getArticleId() != null) {
+                reportModerationService.record(ReportTargetType.ARTICLE, event.getArticleId(), event.getReporterId());
+            }
+            reportModerationService.record(ReportTargetType.MEMBER, event.getReportedMemberId(), event.getReporterId());
+        } catch (Exception e) {
+            log.error("Failed to aggregate report, reporterId = {}, articleId = {}",
+                    event.getReporterId(), event.getArticleId(), e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.palette.palettepetsback.report.repository;
+
+import com.palette.palettepetsback.report.dto.ReportAggregateRow;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 신고 집계 배치 저장 (JdbcTemplate batchUpdate)
+ * - report_aggregate upsert : 카운트는 GREATEST (redis 가 비워져도 줄어들지 않음), 숨김은 한 번 켜지면 관리자가 해제할 때까지 유지
+ *   관리자 해제 (reviewed_at) 이후에 읽은 집계만 다시 숨길 수 있음 -> 해제 전에 읽은 배치가 늦게 저장되어도 다시 숨기지 않음
+ * - article.count_report 도 같은 주기로 한 번에 반영 (게시글마다 조회 후 +1 하던 방식 대체)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportAggregateBatchRepository {
+
+    // MySQL 은 SET 을 왼쪽부터 적용 -> hidden_at 을 hidden 보다 먼저 계산
+    private static final String UPSERT_SQL =
+            "insert into report_aggregate (target_type, target_id, report_count, hidden, hidden_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update " +
+            "report_count = greatest(report_count, values(report_count)), " +
+            "hidden_at = if(hidden = 0 and values(hidden) = 1 and (reviewed_at is null or reviewed_at < ?), values(hidden_at), hidden_at), " +
+            "hidden = if(values(hidden) = 1 and (reviewed_at is null or reviewed_at < ?), 1, hidden), " +
+            "updated_at = values(updated_at)";
+
+    // 관리자 숨김 해제
+    private static final String UNHIDE_SQL =
+            "update report_aggregate set hidden = 0, hidden_at = null, reviewed_at = ?, updated_at = ? " +
+            "where target_type = ? and target_id = ?";
+
+    private static final String ARTICLE_COUNT_SQL =
+            "update article set count_report = greatest(coalesce(count_report, 0), ?) where article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param readAt redis 집계를 읽은 시각 (이 시각 이후 관리자가 해제한 대상은 다시 숨기지 않음)
+     */
+    public void upsertAll(List<ReportAggregateRow> rows, LocalDateTime readAt) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp read = Timestamp.valueOf(readAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReportAggregateRow row = rows.get(i);
+                ps.setString(1, row.getTargetType().name());
+                ps.setLong(2, row.getTargetId());
+                ps.setLong(3, row.getReportCount());
+                ps.setBoolean(4, row.isHidden());
+                if (row.isHidden()) {
+                    ps.setTimestamp(5, now);
+                } else {
+                    ps.setNull(5, Types.TIMESTAMP);
+                }
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, read);
+                ps.setTimestamp(8, read);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 자동 숨김 즉시 저장
+     * AFTER_COMMIT 리스너에서 호출됨 -> 이미 커밋된 트랜잭션의 커넥션에 참여하면 반영되지 않으므로 새 트랜잭션에서 커밋
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void upsertHidden(ReportAggregateRow row, LocalDateTime readAt) {
+        upsertAll(List.of(row), readAt);
+    }
+
+    public void unhide(ReportTargetType type, Long targetId, LocalDateTime reviewedAt) {
+        Timestamp at = Timestamp.valueOf(reviewedAt);
+        jdbcTemplate.update(UNHIDE_SQL, at, at, type.name(), targetId);
+    }
+
+    public void updateArticleReportCounts(List<ReportAggregateRow> rows) {
+        jdbcTemplate.batchUpdate(ARTICLE_COUNT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ReportAggregateRow row = rows.get(i);
+                ps.setLong(1, row.getReportCount());
+                ps.setLong(2, row.getTargetId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
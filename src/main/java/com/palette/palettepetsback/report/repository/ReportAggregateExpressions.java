@@ -0,0 +1,26 @@
+package com.palette.palettepetsback.report.repository;
+
+import com.palette.palettepetsback.report.entity.QReportAggregate;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+
+/**
+ * QueryDSL 목록 쿼리용 자동 숨김 제외 조건
+ */
+public final class ReportAggregateExpressions {
+
+    private ReportAggregateExpressions() {
+    }
+
+    // id NOT IN (자동 숨김된 대상 id)
+    public static BooleanExpression notHidden(ReportTargetType type, NumberPath<Long> targetId) {
+        QReportAggregate reportAggregate = QReportAggregate.reportAggregate;
+        return targetId.notIn(
+                JPAExpressions.select(reportAggregate.targetId)
+                        .from(reportAggregate)
+                        .where(reportAggregate.targetType.eq(type),
+                                reportAggregate.hidden.isTrue()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.palette.palettepetsback.report.repository;
+
+import com.palette.palettepetsback.report.entity.ReportAggregate;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReportAggregateRepository extends JpaRepository<ReportAggregate, Long> {
+
+    // 자동 숨김된 대상 id (시작 시 redis 숨김 SET 복구용)
+    @Query("select r.targetId from ReportAggregate r where r.targetType = :targetType and r.hidden = true")
+    List<Long> findHiddenTargetIds(@Param("targetType") ReportTargetType targetType);
+
+    // 관리자 검토용 숨김 대상 (최근 숨김순)
+    List<ReportAggregate> findByTargetTypeAndHiddenTrueOrderByHiddenAtDesc(ReportTargetType targetType);
+}
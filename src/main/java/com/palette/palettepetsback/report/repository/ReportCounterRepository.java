@@ -0,0 +1,138 @@
+package com.palette.palettepetsback.report.repository;
+
+import com.palette.palettepetsback.report.dto.ReportAggregateRow;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 신고 집계 카운터 (redis)
+ * - report:reporters:{type}:{targetId} -> ZSET (신고자 id, 신고 시각 ms) : 기간 내 서로 다른 신고자 (TTL = 기간)
+ * - report:count:{type}  -> HASH (targetId, 누적 신고 수)
+ * - report:hidden:{type} -> SET 자동 숨김된 targetId (읽기 경로에서 SISMEMBER 한 번으로 확인)
+ * - report:dirty:{type}  -> SET 마지막 배치 저장 이후 바뀐 targetId
+ *
+ * 신고 한 건의 집계 (중복 신고자 제외 / 카운트 / 기준 초과 시 숨김) 는 Lua 스크립트로 원자적으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportCounterRepository {
+
+    private static final String REPORTERS_PREFIX = "report:reporters:";
+    private static final String COUNT_PREFIX = "report:count:";
+    private static final String HIDDEN_PREFIX = "report:hidden:";
+    private static final String DIRTY_PREFIX = "report:dirty:";
+
+    // {새 신고자 여부, 기간 내 신고자 수, 이번 신고로 숨김 여부}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) " +
+            "local added = redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[6]) " +
+            "local distinct = redis.call('ZCARD', KEYS[1]) " +
+            "if added == 0 then return {0, distinct, 0} end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[5], 1) " +
+            "redis.call('SADD', KEYS[3], ARGV[5]) " +
+            "local hidden = 0 " +
+            "if distinct >= tonumber(ARGV[4]) then hidden = redis.call('SADD', KEYS[4], ARGV[5]) end " +
+            "return {1, distinct, hidden}",
+            List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RecordResult {
+        // 기간 내 처음 신고한 회원인지 (같은 회원의 중복 신고는 집계 X)
+        private final boolean counted;
+        private final long distinctReporters;
+        // 이번 신고로 기준을 넘어 숨김 처리되었는지
+        private final boolean newlyHidden;
+    }
+
+    public RecordResult record(ReportTargetType type, Long targetId, Long reporterId, Duration window, int threshold) {
+        long now = System.currentTimeMillis();
+        List<?> result = redisTemplate.execute(RECORD_SCRIPT,
+                List.of(REPORTERS_PREFIX + type.key() + ":" + targetId,
+                        COUNT_PREFIX + type.key(),
+                        DIRTY_PREFIX + type.key(),
+                        HIDDEN_PREFIX + type.key()),
+                String.valueOf(reporterId),
+                String.valueOf(now),
+                String.valueOf(now - window.toMillis()),
+                String.valueOf(threshold),
+                String.valueOf(targetId),
+                String.valueOf(window.toSeconds()));
+        if (result == null || result.size() < 3) {
+            return new RecordResult(false, 0, false);
+        }
+        return new RecordResult(toLong(result.get(0)) == 1L, toLong(result.get(1)), toLong(result.get(2)) == 1L);
+    }
+
+    public boolean isHidden(ReportTargetType type, Long targetId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(HIDDEN_PREFIX + type.key(), String.valueOf(targetId)));
+    }
+
+    // 관리자 숨김 해제 -> 숨김 SET 에서 제거 + 기간 내 신고자 초기화 (다음 신고 한 건으로 바로 다시 숨겨지지 않도록)
+    public void removeHidden(ReportTargetType type, Long targetId) {
+        redisTemplate.opsForSet().remove(HIDDEN_PREFIX + type.key(), String.valueOf(targetId));
+        redisTemplate.delete(REPORTERS_PREFIX + type.key() + ":" + targetId);
+    }
+
+    public void addHidden(ReportTargetType type, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(HIDDEN_PREFIX + type.key(), targetIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // 배치 저장 대상 꺼내기 (SPOP -> 여러 노드가 동시에 돌아도 같은 대상을 나눠 가짐)
+    public List<Long> popDirty(ReportTargetType type, int count) {
+        List<String> ids = redisTemplate.opsForSet().pop(DIRTY_PREFIX + type.key(), count);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    // 저장 실패 시 다시 넣어서 다음 주기에 재시도
+    public void markDirty(ReportTargetType type, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_PREFIX + type.key(), targetIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    // HMGET + SMISMEMBER 두 번으로 대상들의 현재 집계 조회
+    public List<ReportAggregateRow> findAggregates(ReportTargetType type, List<Long> targetIds) {
+        List<Object> fields = targetIds.stream().map(id -> (Object) String.valueOf(id)).toList();
+        List<Object> counts = redisTemplate.opsForHash().multiGet(COUNT_PREFIX + type.key(), fields);
+        Map<Object, Boolean> hidden = redisTemplate.opsForSet().isMember(HIDDEN_PREFIX + type.key(), fields.toArray());
+
+        List<ReportAggregateRow> rows = new ArrayList<>(targetIds.size());
+        for (int i = 0; i < targetIds.size(); i++) {
+            Object count = counts.get(i);
+            rows.add(new ReportAggregateRow(
+                    type,
+                    targetIds.get(i),
+                    count == null ? 0L : Long.parseLong(count.toString()),
+                    hidden != null && Boolean.TRUE.equals(hidden.get(fields.get(i)))));
+        }
+        return rows;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
@@ -1,12 +1,15 @@
 package com.palette.palettepetsback.report.service;
 
+import com.palette.palettepetsback.Article.articleView.repository.ArticleRepository;
 import com.palette.palettepetsback.member.entity.Member;
 import com.palette.palettepetsback.member.repository.MemberRepository;
+import com.palette.palettepetsback.member.service.MemberSummaryService;
 import com.palette.palettepetsback.report.dto.MemberReportAddRequest;
-import com.palette.palettepetsback.report.entity.MemberReport;
+import com.palette.palettepetsback.report.event.ReportAddedEvent;
 import com.palette.palettepetsback.report.repository.MemberReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,28 +21,36 @@ public class MemberReportService {
 
     private final MemberReportRepository memberReportRepository;
     private final MemberRepository memberRepository;
+    private final ArticleRepository articleRepository;
+    private final MemberSummaryService memberSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addReport(MemberReportAddRequest memberReportAddRequest) {
-        // 신고 하는 사람 Member
-        Member reportMember = memberRepository.findById(memberReportAddRequest.getMemberId())
+        // 신고 하는 사람 Member (존재 확인은 회원 요약 캐시, FK 지정에는 참조만 사용)
+        memberSummaryService.findById(memberReportAddRequest.getMemberId())
                 .orElseThrow(() -> new RuntimeException("member not found"));
-        //신고 당하는 사람 Member 찾기
-        Member reportedMember = memberRepository.findByMemberNickname(memberReportAddRequest.getMemberNickname())
+        Member reportMember = memberRepository.getReferenceById(memberReportAddRequest.getMemberId());
+        //신고 당하는 사람 Member 찾기 (닉네임 -> id 는 회원 요약 캐시)
+        Long reportedMemberId = memberSummaryService.findIdByNickname(memberReportAddRequest.getMemberNickname())
                 .orElseThrow(() -> new RuntimeException("member not found"));
-
-        //isReported(reportedMember);
+        if (reportedMemberId.equals(memberReportAddRequest.getMemberId())) {
+            throw new IllegalArgumentException("자기 자신은 신고할 수 없습니다.");
+        }
+        // 게시글 신고면 신고 당하는 회원이 쓴 게시글이어야 함 (다른 회원 게시글로 신고 수를 늘리지 못하도록)
+        if (memberReportAddRequest.getArticleId() != null) {
+            Long authorId = articleRepository.findAuthorIdById(memberReportAddRequest.getArticleId())
+                    .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
+            if (!authorId.equals(reportedMemberId)) {
+                throw new IllegalArgumentException("신고 대상 회원의 게시글이 아닙니다.");
+            }
+        }
+        Member reportedMember = memberRepository.getReferenceById(reportedMemberId);
 
         memberReportRepository.save(memberReportAddRequest.toEntity(reportMember,reportedMember, memberReportAddRequest));
 
-    }
-
-    private void isReported(Member reportedMember) {
-
-//        Boolean isReported = memberReportRepository.existsByReportedMemberId(reportedMember);
-//        if (isReported){
-//            MemberReport memberReport = memberReportRepository.findByReportedMemberId(reportedMember);
-//            memberReport.increaseReportCount();
-//        }
+        // 신고 건수 집계 / 자동 숨김은 커밋 후 redis 카운터에서 (ReportModerationService)
+        eventPublisher.publishEvent(new ReportAddedEvent(
+                memberReportAddRequest.getMemberId(), reportedMemberId, memberReportAddRequest.getArticleId()));
     }
 }
@@ -0,0 +1,62 @@
+package com.palette.palettepetsback.report.service;
+
+import com.palette.palettepetsback.report.dto.ReportAggregateRow;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.repository.ReportAggregateBatchRepository;
+import com.palette.palettepetsback.report.repository.ReportCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * redis 신고 카운터 -> DB 배치 저장
+ * - 바뀐 대상 (dirty SET) 만 BATCH_SIZE 씩 꺼내서 report_aggregate / article.count_report 에 batchUpdate
+ * - 저장 실패 시 dirty 로 되돌려서 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportAggregateFlusher {
+
+    private static final int BATCH_SIZE = 500;
+    // 한 주기에 처리할 최대 배치 수 (밀린 경우에도 스케줄러 스레드를 오래 잡지 않도록)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ReportCounterRepository reportCounterRepository;
+    private final ReportAggregateBatchRepository reportAggregateBatchRepository;
+
+    @Scheduled(fixedDelayString = "${report.flush-interval-ms:30000}")
+    public void flush() {
+        for (ReportTargetType type : ReportTargetType.values()) {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (flushBatch(type) < BATCH_SIZE) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private int flushBatch(ReportTargetType type) {
+        List<Long> targetIds = reportCounterRepository.popDirty(type, BATCH_SIZE);
+        if (targetIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            LocalDateTime readAt = LocalDateTime.now();
+            List<ReportAggregateRow> rows = reportCounterRepository.findAggregates(type, targetIds);
+            reportAggregateBatchRepository.upsertAll(rows, readAt);
+            if (type == ReportTargetType.ARTICLE) {
+                reportAggregateBatchRepository.updateArticleReportCounts(rows);
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush report aggregates, type = {}, size = {}", type, targetIds.size(), e);
+            reportCounterRepository.markDirty(type, targetIds);
+            return 0;
+        }
+        return targetIds.size();
+    }
+}
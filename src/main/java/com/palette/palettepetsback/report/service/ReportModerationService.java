@@ -0,0 +1,92 @@
+package com.palette.palettepetsback.report.service;
+
+import com.palette.palettepetsback.report.dto.ReportAggregateRow;
+import com.palette.palettepetsback.report.entity.ReportTargetType;
+import com.palette.palettepetsback.report.repository.ReportAggregateBatchRepository;
+import com.palette.palettepetsback.report.repository.ReportAggregateRepository;
+import com.palette.palettepetsback.report.repository.ReportCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 신고 집계 / 자동 숨김
+ * - 신고 한 건 -> redis 카운터 (기간 내 서로 다른 신고자 수) 갱신
+ * - 기간 내 신고자가 기준 인원 이상이면 자동 숨김 -> report_aggregate 에 바로 저장 (목록 쿼리에서 제외)
+ * - 읽기 경로의 숨김 확인은 redis SISMEMBER 한 번 (O(1))
+ * 카운트 자체는 ReportAggregateFlusher 가 주기적으로 모아서 저장
+ * 관리자가 숨김 대상을 확인하고 해제 (DB + redis 숨김 모두 해제)
+ */
+@Slf4j
+@Service
+public class ReportModerationService {
+
+    private final ReportCounterRepository reportCounterRepository;
+    private final ReportAggregateRepository reportAggregateRepository;
+    private final ReportAggregateBatchRepository reportAggregateBatchRepository;
+    private final int hideThreshold;
+    private final Duration window;
+
+    public ReportModerationService(ReportCounterRepository reportCounterRepository,
+                                   ReportAggregateRepository reportAggregateRepository,
+                                   ReportAggregateBatchRepository reportAggregateBatchRepository,
+                                   @Value("${report.hide-threshold:5}") int hideThreshold,
+                                   @Value("${report.window-hours:24}") long windowHours) {
+        this.reportCounterRepository = reportCounterRepository;
+        this.reportAggregateRepository = reportAggregateRepository;
+        this.reportAggregateBatchRepository = reportAggregateBatchRepository;
+        this.hideThreshold = hideThreshold;
+        this.window = Duration.ofHours(windowHours);
+    }
+
+    public void record(ReportTargetType type, Long targetId, Long reporterId) {
+        LocalDateTime readAt = LocalDateTime.now();
+        ReportCounterRepository.RecordResult result =
+                reportCounterRepository.record(type, targetId, reporterId, window, hideThreshold);
+
+        if (result.isNewlyHidden()) {
+            log.warn("신고 누적으로 자동 숨김, type = {}, targetId = {}, reporters = {}",
+                    type, targetId, result.getDistinctReporters());
+            // 숨김은 드물고 목록 쿼리에 바로 반영되어야 하므로 배치를 기다리지 않고 저장
+            reportAggregateBatchRepository.upsertHidden(
+                    new ReportAggregateRow(type, targetId, result.getDistinctReporters(), true), readAt);
+        }
+    }
+
+    public List<ReportAggregateRow> findHidden(ReportTargetType type) {
+        return reportAggregateRepository.findByTargetTypeAndHiddenTrueOrderByHiddenAtDesc(type).stream()
+                .map(aggregate -> new ReportAggregateRow(
+                        aggregate.getTargetType(), aggregate.getTargetId(), aggregate.getReportCount(), true))
+                .toList();
+    }
+
+    // redis 먼저 해제 -> DB 해제 (reviewed_at 기록)
+    // 해제 전에 숨김 상태를 읽은 배치는 읽은 시각이 reviewed_at 보다 앞서므로 DB 를 다시 숨기지 못함
+    public void unhide(ReportTargetType type, Long targetId) {
+        reportCounterRepository.removeHidden(type, targetId);
+        reportAggregateBatchRepository.unhide(type, targetId, LocalDateTime.now());
+        log.info("신고 숨김 해제, type = {}, targetId = {}", type, targetId);
+    }
+
+    public boolean isHidden(ReportTargetType type, Long targetId) {
+        return reportCounterRepository.isHidden(type, targetId);
+    }
+
+    // redis 가 비워진 경우에도 숨김이 풀리지 않도록 시작 시 DB 기준으로 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHidden() {
+        for (ReportTargetType type : ReportTargetType.values()) {
+            try {
+                reportCounterRepository.addHidden(type, reportAggregateRepository.findHiddenTargetIds(type));
+            } catch (Exception e) {
+                log.error("Failed to restore hidden report targets, type = {}", type, e);
+            }
+        }
+    }
+}
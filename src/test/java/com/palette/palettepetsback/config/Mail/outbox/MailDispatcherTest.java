@@ -0,0 +1,116 @@
+package com.palette.palettepetsback.config.Mail.outbox;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * outbox -> MailDispatcher -> SMTP (GreenMail) -> markSent 흐름 확인
+ * DB / redis 없이 MailOutboxRepository 만 mock
+ */
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.connectiontimeout", "2000");
+        properties.setProperty("mail.smtp.timeout", "2000");
+        mailSender.setJavaMailProperties(properties);
+        return new MailDispatcher(mailOutboxRepository, mailSender, new SimpleMeterRegistry());
+    }
+
+    private MailOutbox outbox(Long id, String to, String subject, String body, boolean html) {
+        MailOutbox outbox = new MailOutbox(to, subject, body, html);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        // claim 에서 attempts + 1 된 상태
+        ReflectionTestUtils.setField(outbox, "attempts", 1);
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("점유한 outbox 메일을 SMTP 로 발송하고 SENT 처리")
+    void dispatch_sendsClaimedMailAndMarksSent() throws Exception {
+        // given
+        MailOutbox signup = outbox(1L, "user1@test.com", "CODEBOX 회원가입 인증 번호", "aB3dE5fG", true);
+        MailOutbox reset = outbox(2L, "user2@test.com", "임시비밀번호 안내", "임시 비밀번호 < x1y2z3 >", false);
+        given(mailOutboxRepository.claim(anyLong(), any(), any())).willReturn(1);
+        given(mailOutboxRepository.findById(1L)).willReturn(Optional.of(signup));
+        given(mailOutboxRepository.findById(2L)).willReturn(Optional.of(reset));
+
+        // when
+        dispatcher(ServerSetupTest.SMTP.getPort()).dispatch(List.of(1L, 2L));
+
+        // then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received)
+                .extracting(MimeMessage::getSubject)
+                .containsExactlyInAnyOrder("CODEBOX 회원가입 인증 번호", "임시비밀번호 안내");
+        assertThat(received[0].getFrom()[0].toString()).isEqualTo(MailDispatcher.FROM);
+
+        verify(mailOutboxRepository).markSent(eq(1L), any());
+        verify(mailOutboxRepository).markSent(eq(2L), any());
+        verify(mailOutboxRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 워커가 이미 점유한 메일은 발송하지 않음")
+    void dispatch_skipsMailClaimedElsewhere() {
+        // given
+        given(mailOutboxRepository.claim(eq(1L), any(), any())).willReturn(0);
+
+        // when
+        dispatcher(ServerSetupTest.SMTP.getPort()).dispatch(List.of(1L));
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        verify(mailOutboxRepository, never()).findById(any());
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 시 PENDING 으로 되돌리고 재시도 예약")
+    void dispatch_schedulesRetryWhenSmtpUnavailable() {
+        // given
+        MailOutbox mail = outbox(1L, "user1@test.com", "제목", "본문", false);
+        given(mailOutboxRepository.claim(eq(1L), any(), any())).willReturn(1);
+        given(mailOutboxRepository.findById(1L)).willReturn(Optional.of(mail));
+
+        // when : 아무도 듣고 있지 않은 포트
+        dispatcher(1).dispatch(List.of(1L));
+
+        // then
+        verify(mailOutboxRepository).markFailed(eq(1L), eq(MailOutboxStatus.PENDING), any(), any());
+        verify(mailOutboxRepository, never()).markSent(any(), any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.palette.palettepetsback.feed.service;
+
+import com.palette.palettepetsback.config.QueryDslConfig;
+import com.palette.palettepetsback.feed.entity.Feed;
+import com.palette.palettepetsback.feed.repository.FeedRepository;
+import com.palette.palettepetsback.feed.repository.FeedTimelineRepository;
+import com.palette.palettepetsback.member.entity.Member;
+import com.palette.palettepetsback.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 타임라인 재생성 중 커밋된 피드가 빠지지 않는지 확인
+ * - InnoDB 기본 격리 수준 (REPEATABLE READ) 에서 확인해야 하므로 MySQL 컨테이너 사용 (docker 없으면 건너뜀)
+ * - redis 타임라인은 mock
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QueryDslConfig.class, FeedTimelineService.class})
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class FeedTimelineServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private FeedTimelineService feedTimelineService;
+    @Autowired
+    private FeedRepository feedRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private FeedTimelineRepository feedTimelineRepository;
+
+    @Test
+    @DisplayName("DB 조회 ~ 타임라인 재생성 사이에 커밋된 피드도 타임라인에 합침")
+    void getHomeTimeline_mergesFeedCommittedDuringRebuild() {
+        // given
+        Member me = memberRepository.save(Member.builder()
+                .email("timeline@test.com")
+                .memberNickname("timeline")
+                .build());
+        Long memberId = me.getMemberId();
+        Long before = saveFeed(me, "before");
+
+        given(feedTimelineRepository.exists(memberId)).willReturn(false);
+        given(feedTimelineRepository.findCelebrities()).willReturn(Set.of());
+
+        // 첫 재생성 도중 다른 요청 (다른 스레드 / 트랜잭션) 이 피드를 작성하고 커밋 -> 키가 없어 push 는 건너뛴 상황
+        AtomicReference<Long> during = new AtomicReference<>();
+        willAnswer(invocation -> {
+            if (during.get() == null) {
+                during.set(CompletableFuture.supplyAsync(() -> saveFeed(me, "during")).join());
+            }
+            return null;
+        }).given(feedTimelineRepository).rebuild(eq(memberId), anyList());
+
+        // when
+        feedTimelineService.getHomeTimeline(memberId, null, 10);
+
+        // then
+        verify(feedTimelineRepository).rebuild(memberId, List.of(before));
+        verify(feedTimelineRepository).rebuild(memberId, List.of(during.get()));
+    }
+
+    private Long saveFeed(Member member, String content) {
+        Feed feed = new Feed();
+        feed.saveFeed(content, member);
+        return feedRepository.save(feed).getFeedId();
+    }
+}